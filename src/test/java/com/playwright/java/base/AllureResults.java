@@ -0,0 +1,133 @@
+package com.playwright.java.base;
+
+import com.playwright.java.config.TestConfig;
+import io.qameta.allure.Allure;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+// Central place for writing to the Allure results directory.
+// Run-level files (environment.properties, categories.json) are written once per JVM,
+// and attachments are streamed from files instead of being held in memory.
+public final class AllureResults {
+    private static final AtomicBoolean RUN_METADATA_WRITTEN = new AtomicBoolean(false);
+
+    private static final String CATEGORIES_JSON = "[\n"
+            + "  {\n"
+            + "    \"name\": \"Product defects\",\n"
+            + "    \"matchedStatuses\": [\"failed\"]\n"
+            + "  },\n"
+            + "  {\n"
+            + "    \"name\": \"Test defects\",\n"
+            + "    \"matchedStatuses\": [\"broken\"]\n"
+            + "  }\n"
+            + "]";
+
+    private AllureResults() {
+    }
+
+    // Writes environment information (Allure Environment tab) and categories.
+    // The first test class to start writes the files; parallel classes skip the work.
+    public static void writeRunMetadataOnce(TestConfig config) {
+        if (!RUN_METADATA_WRITTEN.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            Path allureResultsDir = TestHistory.resultsDirectory();
+            Files.createDirectories(allureResultsDir);
+
+            Properties environment = new Properties();
+            environment.setProperty("Application URL", config.baseUrl());
+            environment.setProperty("Browser", String.join(", ", config.browsers()));
+            environment.setProperty("Headless", String.valueOf(config.headless()));
+            environment.setProperty("Launch Profile", config.launchProfile().name());
+            environment.setProperty("Viewport", config.viewportWidth() + "x" + config.viewportHeight());
+            environment.setProperty("Default Timeout (ms)", String.valueOf(config.defaultTimeoutMs()));
+            environment.setProperty("Navigation Timeout (ms)", String.valueOf(config.navigationTimeoutMs()));
+            environment.setProperty("Slow Mo (ms)", String.valueOf(config.slowMoMs()));
+            environment.setProperty("Screenshot On Teardown", String.valueOf(config.screenshotOnTeardown()));
+            environment.setProperty("Shard", System.getProperty("shard", "1/1"));
+            environment.setProperty("Trace", config.trace().name());
+            environment.setProperty("Network Profile", config.networkProfile().name());
+            environment.setProperty("CPU Throttling Rate", String.valueOf(config.cpuThrottlingRate()));
+            environment.setProperty("Gzip Text Attachments Over (KB)", String.valueOf(config.gzipTextAttachmentsOverKb()));
+            environment.setProperty("Java Version", System.getProperty("java.version"));
+            environment.setProperty("OS", System.getProperty("os.name") + " " + System.getProperty("os.version"));
+            environment.setProperty("Config Profile", config.profile());
+            // Full resolved configuration, so a run can be reproduced from the report.
+            config.describe().forEach((key, value) -> environment.setProperty("config." + key, value));
+
+            Path environmentFile = allureResultsDir.resolve("environment.properties");
+            Path environmentTemp = Files.createTempFile(allureResultsDir, "environment", ".tmp");
+            try (OutputStream output = Files.newOutputStream(environmentTemp)) {
+                environment.store(output, "Allure Environment");
+            }
+            Files.move(environmentTemp, environmentFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            Path categoriesTemp = Files.createTempFile(allureResultsDir, "categories", ".tmp");
+            Files.writeString(categoriesTemp, CATEGORIES_JSON, StandardCharsets.UTF_8);
+            Files.move(
+                    categoriesTemp,
+                    allureResultsDir.resolve("categories.json"),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            RUN_METADATA_WRITTEN.set(false);
+            throw new IllegalStateException("Failed to write Allure environment.properties", exception);
+        }
+    }
+
+    // Attaches a file already on disk; Allure copies it to the results directory asynchronously.
+    // The attachment counts as pending in RunMetrics until Allure closes the stream.
+    public static void attachFile(String name, String type, Path file, String fileExtension) {
+        RunMetrics.get().attachmentQueued();
+        Allure.addStreamAttachmentAsync(name, type, fileExtension, () -> {
+            try {
+                return new FilterInputStream(Files.newInputStream(file)) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            RunMetrics.get().attachmentWritten();
+                        }
+                    }
+                };
+            } catch (IOException exception) {
+                RunMetrics.get().attachmentWritten();
+                throw new UncheckedIOException("Failed to open attachment " + file, exception);
+            }
+        });
+    }
+
+    // Attaches text evidence as text/plain so it can be read in the report.
+    // Only text larger than gzipOverKb (when > 0) is gzip-compressed and downloaded as .txt.gz.
+    public static void attachText(String name, String text, int gzipOverKb) {
+        if (gzipOverKb <= 0 || text.length() <= gzipOverKb * 1024L) {
+            Allure.addAttachment(name, "text/plain", text, ".txt");
+            return;
+        }
+
+        Allure.addByteAttachmentAsync(name, "application/gzip", ".txt.gz", () -> gzip(text));
+    }
+
+    private static byte[] gzip(String text) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream output = new GZIPOutputStream(compressed)) {
+            output.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to compress attachment", exception);
+        }
+        return compressed.toByteArray();
+    }
+}
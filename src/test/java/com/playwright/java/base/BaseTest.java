@@ -4,44 +4,56 @@ import com.microsoft.playwright.Browser;
 import com.microsoft.playwright.Browser.NewContextOptions;
 import com.microsoft.playwright.BrowserContext;
 import com.microsoft.playwright.BrowserContext.StorageStateOptions;
-import com.microsoft.playwright.BrowserType;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.Tracing;
 import io.qameta.allure.Allure;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import java.io.IOException;
-import java.io.ByteArrayInputStream;
-import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Properties;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
 import com.playwright.java.config.TestConfig;
+import com.playwright.java.config.TestConfig.AssetCacheMode;
+import com.playwright.java.config.TestConfig.TraceMode;
+import com.playwright.java.jfr.JfrRecorder;
+import com.playwright.java.jfr.ScreenshotEvent;
+import com.playwright.java.jfr.TestClassEvent;
+import com.playwright.java.jfr.TestExecutionEvent;
+import com.playwright.java.network.DiskAssetCache;
+import com.playwright.java.network.MemoryAssetCache;
+import com.playwright.java.network.NetworkConditions;
 import com.playwright.java.config.TestData;
 import com.playwright.java.pages.ComponentsPage;
+import com.playwright.java.pages.HeaderComponent;
 import com.playwright.java.pages.HomePage;
 import com.playwright.java.pages.LoginPage;
+import com.playwright.java.pages.SidebarMenu;
+import com.playwright.java.pages.SoftChecks;
+import com.playwright.java.visual.VisualCheck;
 
 // Base class for all tests.
 // Shared setup and teardown (open browser, login, close browser) lives here.
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ExtendWith(TestOutcomeRecorder.class)
 public abstract class BaseTest {
     // Main Playwright objects.
     protected Playwright playwright;
     protected Browser browser;
+    protected String browserEngine;
     protected BrowserContext context;
     protected Page page;
-    protected Path authStorageStatePath;
 
-    // Configuration loaded from src/test/resources/config.properties.
+    // Run-wide configuration snapshot (config.properties + profile + env + -D), shared by all classes.
     protected TestConfig config;
     protected TestData testData;
 
@@ -49,39 +61,72 @@ public abstract class BaseTest {
     protected LoginPage loginPage;
     protected HomePage homePage;
     protected ComponentsPage componentsPage;
+    // Screenshot comparison against stored baselines for this engine.
+    protected VisualCheck visualCheck;
+    // Emulated network profile and CPU throttling, applied to every test page.
+    protected NetworkConditions networkConditions;
+
+    // One launched browser per engine for this class (the class runs on a single worker thread).
+    private final Map<String, Browser> browsersByEngine = new LinkedHashMap<>();
+
+    // Set by TestOutcomeRecorder before @AfterEach runs, also when @BeforeEach failed.
+    private boolean currentTestFailed;
+    private long testStartNanos;
+
+    // Phase boundaries of the current test, reported by PhaseTimings.
+    private long setupStartNanos;
+    private long bodyStartNanos;
+    // Set only when memoryProfiling=true.
+    private MemoryProfiler memoryProfiler;
+    // Flight Recorder spans for the class and the current test (see JfrRecorder).
+    private TestClassEvent classEvent;
+    private TestExecutionEvent testEvent;
 
     protected boolean requiresAuthenticatedSession() {
         return true;
     }
 
+    // Classes that drive their own start page (e.g. a local stand-in) skip the SauceDemo navigation.
+    protected boolean opensApplicationOnSetUp() {
+        return true;
+    }
+
     // Runs once per test class.
-    // Performs login once and saves authenticated storage state.
+    // The authenticated storage state is captured by the first class of the run and reused by the others.
     @BeforeAll
     void setUpSuite() {
-        config = TestConfig.load();
+        config = TestConfig.get();
         testData = TestData.get();
+        networkConditions = new NetworkConditions(config);
 
-        writeAllureEnvironment();
+        // JFR events are no-ops unless jfrRecording=true started a recording.
+        JfrRecorder.startOnce(config);
+        classEvent = new TestClassEvent();
+        classEvent.testClass = getClass().getSimpleName();
+        classEvent.begin();
 
-        playwright = Playwright.create();
-        BrowserType.LaunchOptions launchOptions = new BrowserType.LaunchOptions().setHeadless(config.headless());
-        if (config.slowMoMs() > 0) {
-            launchOptions.setSlowMo((double) config.slowMoMs());
-        }
-        browser = playwright.chromium().launch(launchOptions);
+        AllureResults.writeRunMetadataOnce(config);
+        PhaseTimings.publishMetric("menu-actions", SidebarMenu::timingSummary);
+        PhaseTimings.publishMetric("soft-checks", SoftChecks::timingSummary);
+        PhaseTimings.publishMetric("visual-diff", VisualCheck::timingSummary);
+
+        playwright = LaunchProfiles.createPlaywright(config);
+        // Storage state is engine-agnostic, so login runs once with the first engine.
+        browser = browserFor(config.browsers().get(0));
 
         if (!requiresAuthenticatedSession()) {
             return;
         }
 
-        try {
-            authStorageStatePath = Files.createTempFile("playwright-auth-", ".json");
-        } catch (IOException exception) {
-            throw new IllegalStateException("Failed to create auth storage state file", exception);
-        }
+        // Logs in here when the class is the first of the run, so a broken login fails the class early.
+        GoldenStates.get().authenticatedStorageState(this::saveAuthenticatedState);
+    }
 
+    // Logs in with the standard user and saves cookies and localStorage to the given file.
+    private void saveAuthenticatedState(Path storageStatePath) {
         BrowserContext authContext = browser.newContext(new NewContextOptions()
             .setViewportSize(config.viewportWidth(), config.viewportHeight()));
+        RunMetrics.get().contextCreated(authContext);
         Page authPage = authContext.newPage();
         configurePage(authPage);
 
@@ -92,59 +137,234 @@ public abstract class BaseTest {
         authLoginPage.loginWithStandardUser();
         assertTrue(authHomePage.isLoaded());
 
-        authContext.storageState(new StorageStateOptions().setPath(authStorageStatePath));
+        authContext.storageState(new StorageStateOptions().setPath(storageStatePath));
         authContext.close();
     }
 
-    // Runs before each test: creates an isolated and already authenticated context.
+    // Runs before each test: creates an isolated context directly in the test's golden state
+    // (@StartFrom, default "inventory"), so no UI steps are replayed to reach the precondition.
     // This keeps tests independent from one another.
     @BeforeEach
-    void setUpTest() {
+    void setUpTest(TestInfo testInfo) {
+        setupStartNanos = System.nanoTime();
+        currentTestFailed = false;
+        testEvent = new TestExecutionEvent();
+        testEvent.begin();
         Allure.label("owner", "Gabriel Souza");
 
+        // Set by BrowserMatrixExtension for @BrowserTest; plain @Test methods use the first engine.
+        if (browserEngine == null) {
+            browserEngine = config.browsers().get(0);
+        }
+        browser = browserFor(browserEngine);
+        Allure.parameter("browser", browserEngine);
+        testStartNanos = System.nanoTime();
+
         NewContextOptions contextOptions = new NewContextOptions()
                 .setViewportSize(config.viewportWidth(), config.viewportHeight());
 
+        String startState = startState(testInfo);
         if (requiresAuthenticatedSession()) {
-            context = browser.newContext(contextOptions.setStorageStatePath(authStorageStatePath));
+            Path storageState = GoldenStates.get().storageState(startState, this::saveAuthenticatedState, config, testData);
+            context = browser.newContext(contextOptions.setStorageStatePath(storageState));
         } else {
             context = browser.newContext(contextOptions);
         }
 
+        RunMetrics.get().contextCreated(context);
+        installAssetCache(context);
+
+        if (config.trace() != TraceMode.OFF) {
+            context.tracing().start(new Tracing.StartOptions()
+                    .setScreenshots(config.traceScreenshots())
+                    .setSnapshots(config.traceSnapshots()));
+        }
+
         page = context.newPage();
         configurePage(page);
+        networkConditions.apply(context, page, browserEngine);
 
         loginPage = new LoginPage(page);
-        homePage = new HomePage(page);
-        componentsPage = new ComponentsPage(page);
+        HeaderComponent header = new HeaderComponent(page);
+        homePage = new HomePage(page, header);
+        componentsPage = new ComponentsPage(page, header);
+        visualCheck = new VisualCheck(page, config, browserEngine);
 
         if (requiresAuthenticatedSession()) {
-            String inventoryRoute = testData.route("inventory");
-            String normalizedRoute = inventoryRoute.startsWith("/") ? inventoryRoute.substring(1) : inventoryRoute;
-            String inventoryUrl = config.baseUrl().endsWith("/")
+            String startRoute = GoldenStates.route(startState, testData);
+            String normalizedRoute = startRoute.startsWith("/") ? startRoute.substring(1) : startRoute;
+            String startUrl = config.baseUrl().endsWith("/")
                 ? config.baseUrl() + normalizedRoute
-                : config.baseUrl() + inventoryRoute;
+                : config.baseUrl() + startRoute;
 
-            page.navigate(inventoryUrl);
+            page.navigate(startUrl);
             assertTrue(homePage.isLoaded());
-        } else {
+        } else if (opensApplicationOnSetUp()) {
             loginPage.open(config.baseUrl());
             assertTrue(loginPage.isLoaded());
         }
+        if (config.memoryProfiling()) {
+            startMemoryProfile();
+        }
+        bodyStartNanos = System.nanoTime();
     }
 
     //Runs after each test to ensure isolation.
     @AfterEach
     void tearDownTest(TestInfo testInfo) {
+        long teardownStartNanos = System.nanoTime();
+        String testName = testInfo.getTestClass().map(Class::getSimpleName).orElse("UnknownClass") + "." + testInfo.getDisplayName();
+        recordMemoryProfile(testName);
         saveScreenshot(testInfo);
+        saveTrace(testInfo);
 
         if (context != null) {
             context.close();
         }
+        // A later setUp that fails before creating its own context must not trace or capture this one.
+        context = null;
+        page = null;
+
+        long endNanos = System.nanoTime();
+        EngineTimings.recordTest(browserEngine, (endNanos - testStartNanos) / 1_000_000, currentTestFailed);
+        // bodyStartNanos stays 0 when setup failed: the whole attempt counts as setup.
+        long setupEndNanos = bodyStartNanos == 0 ? teardownStartNanos : bodyStartNanos;
+        PhaseTimings.record(
+                testName,
+                browserEngine,
+                (setupEndNanos - setupStartNanos) / 1_000_000,
+                (teardownStartNanos - setupEndNanos) / 1_000_000,
+                (endNanos - teardownStartNanos) / 1_000_000,
+                currentTestFailed);
+        testEvent.testClass = getClass().getSimpleName();
+        testEvent.test = testInfo.getDisplayName();
+        testEvent.engine = browserEngine;
+        testEvent.failed = currentTestFailed;
+        testEvent.commit();
+        browserEngine = null;
+        bodyStartNanos = 0;
+        memoryProfiler = null;
+    }
+
+    // Profiling is diagnostic: a failed sample never fails the test.
+    private void startMemoryProfile() {
+        try {
+            memoryProfiler = new MemoryProfiler(context, page, browserEngine, config);
+            memoryProfiler.start();
+        } catch (Exception exception) {
+            memoryProfiler = null;
+            System.err.println("Failed to sample browser memory in setUp: " + exception.getMessage());
+        }
+    }
+
+    private void recordMemoryProfile(String testName) {
+        if (memoryProfiler == null) {
+            return;
+        }
+        try {
+            MemoryProfiler.Delta delta = memoryProfiler.finish();
+            if (delta != null) {
+                PhaseTimings.recordMemory(testName, browserEngine, delta);
+                attachEvidence("Memory profile", delta.describe());
+            }
+        } catch (Exception exception) {
+            System.err.println("Failed to sample browser memory in tearDown: " + exception.getMessage());
+        }
+    }
+
+    private String startState(TestInfo testInfo) {
+        StartFrom startFrom = testInfo.getTestMethod().map(method -> method.getAnnotation(StartFrom.class)).orElse(null);
+        if (startFrom == null) {
+            return GoldenStates.DEFAULT_STATE;
+        }
+        if (!requiresAuthenticatedSession()) {
+            throw new IllegalStateException("@StartFrom needs an authenticated session: " + testInfo.getDisplayName());
+        }
+        return startFrom.value();
+    }
+
+    void useBrowserEngine(String engine) {
+        browserEngine = engine;
+    }
+
+    // Launches each engine on first use and reuses it for the rest of the class.
+    private Browser browserFor(String engine) {
+        return browsersByEngine.computeIfAbsent(engine, key -> {
+            long start = System.nanoTime();
+            Browser launched = LaunchProfiles.launch(playwright, config, key);
+            EngineTimings.recordLaunch(key, (System.nanoTime() - start) / 1_000_000);
+            return launched;
+        });
+    }
+
+    // Static assets are served from a cache shared across contexts (see network package).
+    private void installAssetCache(BrowserContext targetContext) {
+        if (config.assetCache() == AssetCacheMode.DISK) {
+            DiskAssetCache cache = diskAssetCache();
+            cache.install(targetContext);
+            PhaseTimings.publishMetric("asset-cache", cache::summary);
+        } else if (config.assetCache() == AssetCacheMode.MEMORY) {
+            MemoryAssetCache cache = MemoryAssetCache.shared(config.assetCacheMaxMb() * 1024L * 1024L);
+            cache.install(targetContext);
+            PhaseTimings.publishMetric("asset-cache", cache::summary);
+        }
+    }
+
+    private DiskAssetCache diskAssetCache() {
+        return DiskAssetCache.open(Path.of(config.assetCacheDir()), config.assetCacheMaxMb() * 1024L * 1024L,
+                config.assetCacheMaxAgeMinutes() * 60_000L);
+    }
+
+    // Attaches text evidence to the current test (gzip-compressed above gzipTextAttachmentsOverKb).
+    protected void attachEvidence(String name, String text) {
+        AllureResults.attachText(name, text, config.gzipTextAttachmentsOverKb());
+    }
+
+    void recordTestOutcome(boolean failed) {
+        currentTestFailed = failed;
+    }
+
+    // Stops tracing for the current context.
+    // Files are stored in target/reports/traces; only failed tests get the trace attached to Allure.
+    // In retainOnFailure mode, traces of passing tests are discarded without being written.
+    private void saveTrace(TestInfo testInfo) {
+        if (context == null || config.trace() == TraceMode.OFF) {
+            return;
+        }
+
+        try {
+            if (config.trace() == TraceMode.RETAIN_ON_FAILURE && !currentTestFailed) {
+                context.tracing().stop();
+                return;
+            }
+
+            Path tracesDir = Path.of("target", "reports", "traces");
+            Files.createDirectories(tracesDir);
+
+            String className = testInfo.getTestClass().map(Class::getSimpleName).orElse("UnknownClass");
+            String methodName = testInfo.getTestMethod().map(method -> method.getName()).orElse("UnknownMethod");
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS"));
+            Path tracePath = tracesDir.resolve(sanitizeForFileName(className)
+                    + "_"
+                    + sanitizeForFileName(methodName)
+                    + "_"
+                    + timestamp
+                    + ".zip");
+
+            context.tracing().stop(new Tracing.StopOptions().setPath(tracePath));
+
+            if (currentTestFailed) {
+                AllureResults.attachFile("Playwright Trace", "application/zip", tracePath, ".zip");
+            }
+        } catch (Exception exception) {
+            System.err.println("Failed to save Playwright trace in tearDown: " + exception.getMessage());
+        }
     }
 
     // Takes a screenshot at the end of each test.
     // Files are stored in target/reports/screenshots and attached to Allure.
+    // With screenshotDrift=true, each capture is also hashed and compared with the previous capture
+    // of the same test (see VisualCheck); off by default.
     private void saveScreenshot(TestInfo testInfo) {
         if (page == null || !config.screenshotOnTeardown()) {
             return;
@@ -165,15 +385,19 @@ public abstract class BaseTest {
                     + timestamp
                     + ".png";
 
-            byte[] screenshotBytes = page.screenshot(new Page.ScreenshotOptions().setFullPage(true));
-
-            Files.write(screenshotsDir.resolve(fileName), screenshotBytes);
-
-            Allure.addAttachment(
-                    className + "." + methodName,
-                    "image/png",
-                    new ByteArrayInputStream(screenshotBytes),
-                    ".png");
+            Path screenshotPath = screenshotsDir.resolve(fileName);
+            ScreenshotEvent screenshotEvent = new ScreenshotEvent();
+            screenshotEvent.begin();
+            byte[] screenshot = page.screenshot(new Page.ScreenshotOptions().setFullPage(true).setPath(screenshotPath));
+            screenshotEvent.purpose = "teardown";
+            screenshotEvent.bytes = screenshot.length;
+            screenshotEvent.commit();
+
+            AllureResults.attachFile(className + "." + methodName, "image/png", screenshotPath, ".png");
+            if (config.screenshotDrift()) {
+                attachEvidence("Screenshot drift", VisualCheck.compareWithPreviousCapture(
+                        config, browserEngine + "/" + className + "." + methodName, screenshot));
+            }
         } catch (Exception exception) {
             System.err.println("Failed to capture screenshot in tearDown: " + exception.getMessage());
         }
@@ -188,64 +412,26 @@ public abstract class BaseTest {
         targetPage.setDefaultNavigationTimeout(config.navigationTimeoutMs());
     }
 
-    // Writes environment information to the Allure Environment tab.
-    private void writeAllureEnvironment() {
-        try {
-            Path allureResultsDir = Path.of("target", "allure-results");
-            Files.createDirectories(allureResultsDir);
-
-            Properties environment = new Properties();
-            environment.setProperty("Application URL", config.baseUrl());
-            environment.setProperty("Browser", "Chromium");
-            environment.setProperty("Headless", String.valueOf(config.headless()));
-            environment.setProperty("Viewport", config.viewportWidth() + "x" + config.viewportHeight());
-            environment.setProperty("Default Timeout (ms)", String.valueOf(config.defaultTimeoutMs()));
-            environment.setProperty("Navigation Timeout (ms)", String.valueOf(config.navigationTimeoutMs()));
-            environment.setProperty("Slow Mo (ms)", String.valueOf(config.slowMoMs()));
-            environment.setProperty("Screenshot On Teardown", String.valueOf(config.screenshotOnTeardown()));
-            environment.setProperty("Java Version", System.getProperty("java.version"));
-            environment.setProperty("OS", System.getProperty("os.name") + " " + System.getProperty("os.version"));
-
-            try (OutputStream output = Files.newOutputStream(allureResultsDir.resolve("environment.properties"))) {
-                environment.store(output, "Allure Environment");
-            } catch (IOException e) {
-                throw new IllegalStateException("Failed to write environment.properties", e);
-            }
-
-            String categoriesJson = "[\n"
-                    + "  {\n"
-                    + "    \"name\": \"Product defects\",\n"
-                    + "    \"matchedStatuses\": [\"failed\"]\n"
-                    + "  },\n"
-                    + "  {\n"
-                    + "    \"name\": \"Test defects\",\n"
-                    + "    \"matchedStatuses\": [\"broken\"]\n"
-                    + "  }\n"
-                    + "]";
-
-            Files.writeString(
-                    allureResultsDir.resolve("categories.json"),
-                    categoriesJson,
-                    StandardCharsets.UTF_8);
-        } catch (IOException exception) {
-            throw new IllegalStateException("Failed to write Allure environment.properties", exception);
-        }
-    }
-
     // Runs once per test class.
     @AfterAll
     void tearDownSuite() {
-        if (browser != null) {
-            browser.close();
-        }
-        if (playwright != null) {
-            playwright.close();
-        }
-        if (authStorageStatePath != null) {
-            try {
-                Files.deleteIfExists(authStorageStatePath);
-            } catch (IOException exception) {
-                throw new IllegalStateException("Failed to delete auth storage state file", exception);
+        try {
+            for (Browser launched : browsersByEngine.values()) {
+                launched.close();
+            }
+            browsersByEngine.clear();
+            EngineTimings.writeSummary(config.launchProfile().name());
+            PhaseTimings.writeReport();
+            if (config.assetCache() == AssetCacheMode.DISK) {
+                diskAssetCache().writeSummary();
+            }
+            if (playwright != null) {
+                playwright.close();
+            }
+        } finally {
+            // Committed even when closing fails, so the class span still attributes its events in the JFR summary.
+            if (classEvent != null) {
+                classEvent.commit();
             }
         }
     }
@@ -0,0 +1,49 @@
+package com.playwright.java.base;
+
+import com.playwright.java.config.TestConfig;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+
+// Expands every @BrowserTest into one invocation per configured engine.
+// Invocations run sequentially on the class's single worker thread, one method at a time
+// (TC01 chromium, TC01 firefox, TC02 chromium...); only one engine is driven at any moment.
+// Each engine is launched once per class and reused (see BaseTest.browserFor), so the matrix costs
+// one launch per engine per class. Parallelism comes from running classes concurrently.
+public class BrowserMatrixExtension implements TestTemplateInvocationContextProvider {
+    @Override
+    public boolean supportsTestTemplate(ExtensionContext context) {
+        return context.getTestMethod().isPresent();
+    }
+
+    @Override
+    public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+        List<String> engines = TestConfig.get().browsers();
+        String displayName = context.getDisplayName();
+        return engines.stream().map(engine -> invocation(engine, engines.size() == 1 ? displayName : displayName + " [" + engine + "]"));
+    }
+
+    private static TestTemplateInvocationContext invocation(String engine, String displayName) {
+        return new TestTemplateInvocationContext() {
+            @Override
+            public String getDisplayName(int invocationIndex) {
+                return displayName;
+            }
+
+            @Override
+            public List<Extension> getAdditionalExtensions() {
+                // Runs before @BeforeEach, so setUpTest() creates the context in this engine.
+                return List.of((BeforeEachCallback) extensionContext -> {
+                    Object testInstance = extensionContext.getRequiredTestInstance();
+                    if (testInstance instanceof BaseTest) {
+                        ((BaseTest) testInstance).useBrowserEngine(engine);
+                    }
+                });
+            }
+        };
+    }
+}
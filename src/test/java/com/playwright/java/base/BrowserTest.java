@@ -0,0 +1,17 @@
+package com.playwright.java.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+// Marks a test that runs once per browser engine listed in the "browsers" setting.
+// Use it instead of @Test in classes extending BaseTest.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@TestTemplate
+@ExtendWith(BrowserMatrixExtension.class)
+public @interface BrowserTest {
+}
@@ -0,0 +1,76 @@
+package com.playwright.java.base;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-engine timing collected across all test classes of the run.
+// The summary is rewritten to target/reports/engine-timings.txt whenever a class finishes.
+public final class EngineTimings {
+    private static final Map<String, Stats> STATS = new ConcurrentHashMap<>();
+
+    private EngineTimings() {
+    }
+
+    public static void recordLaunch(String engine, long durationMs) {
+        Stats stats = stats(engine);
+        stats.launches.add(durationMs);
+        stats.launchCount.increment();
+    }
+
+    public static void recordTest(String engine, long durationMs, boolean failed) {
+        Stats stats = stats(engine);
+        stats.tests.add(durationMs);
+        stats.testCount.increment();
+        if (failed) {
+            stats.failures.increment();
+        }
+    }
+
+    public static synchronized void writeSummary(String launchProfile) {
+        StringBuilder summary = new StringBuilder();
+        summary.append("launch profile: ").append(launchProfile).append(System.lineSeparator());
+        summary.append(String.format("%-10s %8s %8s %14s %12s %9s %15s%n",
+                "engine", "tests", "failed", "total test ms", "avg test ms", "launches", "avg launch ms"));
+
+        for (Map.Entry<String, Stats> entry : new TreeMap<>(STATS).entrySet()) {
+            Stats stats = entry.getValue();
+            long count = stats.testCount.sum();
+            long total = stats.tests.sum();
+            long launches = stats.launchCount.sum();
+            summary.append(String.format("%-10s %8d %8d %14d %12d %9d %15d%n",
+                    entry.getKey(),
+                    count,
+                    stats.failures.sum(),
+                    total,
+                    count == 0 ? 0 : total / count,
+                    launches,
+                    launches == 0 ? 0 : stats.launches.sum() / launches));
+        }
+
+        try {
+            Path reportsDir = Path.of("target", "reports");
+            Files.createDirectories(reportsDir);
+            Files.writeString(reportsDir.resolve("engine-timings.txt"), summary.toString(), StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            System.err.println("Failed to write engine timing summary: " + exception.getMessage());
+        }
+    }
+
+    private static Stats stats(String engine) {
+        return STATS.computeIfAbsent(engine, key -> new Stats());
+    }
+
+    private static final class Stats {
+        private final LongAdder launches = new LongAdder();
+        private final LongAdder launchCount = new LongAdder();
+        private final LongAdder tests = new LongAdder();
+        private final LongAdder testCount = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+    }
+}
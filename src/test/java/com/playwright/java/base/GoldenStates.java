@@ -0,0 +1,137 @@
+package com.playwright.java.base;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.playwright.java.config.TestConfig;
+import com.playwright.java.config.TestData;
+import com.playwright.java.pages.CartState;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// Named starting points for tests: a storage state file plus the route to open.
+// The login runs once per session lifetime; each golden state is derived from it once, by writing the
+// cart into the saved localStorage, so tests never replay UI steps to reach their precondition.
+// SauceDemo's session cookie is short-lived (minutes): when the saved cookies are about to expire,
+// the next caller logs in again and the derived golden states are rewritten from the new session.
+// Sort order is React state in SauceDemo (not stored), so golden states cover session, cart and route.
+public final class GoldenStates {
+    public static final String DEFAULT_STATE = "inventory";
+
+    private static final Path DIRECTORY = Path.of("target", "golden-states");
+    // Renew ahead of expiry so the session outlives the test that is being set up.
+    private static final long SESSION_RENEWAL_MARGIN_MS = 120_000L;
+    private static final GoldenStates INSTANCE = new GoldenStates();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, Path> storageStates = new ConcurrentHashMap<>();
+    private Path authenticatedStorageState;
+    private long sessionExpiresAtMs;
+
+    private GoldenStates() {
+    }
+
+    public static GoldenStates get() {
+        return INSTANCE;
+    }
+
+    // First caller logs in and saves the storage state; parallel classes wait and reuse the file
+    // until its cookies are close to expiry.
+    public synchronized Path authenticatedStorageState(Consumer<Path> login) {
+        if (authenticatedStorageState == null || System.currentTimeMillis() + SESSION_RENEWAL_MARGIN_MS >= sessionExpiresAtMs) {
+            try {
+                Files.createDirectories(DIRECTORY);
+            } catch (IOException exception) {
+                throw new IllegalStateException("Failed to create golden state directory " + DIRECTORY, exception);
+            }
+            Path path = DIRECTORY.resolve("authenticated.json");
+            login.accept(path);
+            sessionExpiresAtMs = sessionExpiry(path);
+            authenticatedStorageState = path;
+            // Derived states carry the previous session cookie.
+            storageStates.clear();
+        }
+        return authenticatedStorageState;
+    }
+
+    // Storage state file for the named golden state, derived from a live session.
+    public synchronized Path storageState(String name, Consumer<Path> login, TestConfig config, TestData testData) {
+        Path authenticatedState = authenticatedStorageState(login);
+        return storageStates.computeIfAbsent(name, key -> write(key, authenticatedState, config, testData));
+    }
+
+    public static String route(String name, TestData testData) {
+        return testData.route(testData.goldenStateRoute(name));
+    }
+
+    private Path write(String name, Path authenticatedState, TestConfig config, TestData testData) {
+        List<String> products = testData.goldenStateProducts(name);
+        String origin = origin(config.baseUrl());
+
+        try {
+            ObjectNode state = (ObjectNode) mapper.readTree(authenticatedState.toFile());
+            ArrayNode origins = state.withArray("origins");
+            ObjectNode originNode = null;
+            for (JsonNode candidate : origins) {
+                if (origin.equals(candidate.path("origin").asText())) {
+                    originNode = (ObjectNode) candidate;
+                }
+            }
+            if (originNode == null) {
+                originNode = origins.addObject().put("origin", origin);
+            }
+
+            ArrayNode localStorage = originNode.withArray("localStorage");
+            Iterator<JsonNode> entries = localStorage.elements();
+            while (entries.hasNext()) {
+                if (CartState.STORAGE_KEY.equals(entries.next().path("name").asText())) {
+                    entries.remove();
+                }
+            }
+            if (!products.isEmpty()) {
+                localStorage.addObject()
+                        .put("name", CartState.STORAGE_KEY)
+                        .put("value", CartState.storageValue(testData, products.toArray(new String[0])));
+            }
+
+            Path path = DIRECTORY.resolve(name.replaceAll("[^a-zA-Z0-9._-]", "_") + ".json");
+            Path temp = Files.createTempFile(DIRECTORY, "golden-state", ".tmp");
+            mapper.writeValue(temp.toFile(), state);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return path;
+        } catch (IOException exception) {
+            throw new IllegalStateException("Failed to write golden state " + name, exception);
+        }
+    }
+
+    // Earliest cookie expiry in the storage state (seconds since epoch, -1 for session cookies).
+    private long sessionExpiry(Path storageState) {
+        try {
+            long earliest = Long.MAX_VALUE;
+            for (JsonNode cookie : mapper.readTree(storageState.toFile()).path("cookies")) {
+                double expires = cookie.path("expires").asDouble(-1);
+                if (expires > 0) {
+                    earliest = Math.min(earliest, (long) (expires * 1000));
+                }
+            }
+            return earliest;
+        } catch (IOException exception) {
+            throw new IllegalStateException("Failed to read storage state " + storageState, exception);
+        }
+    }
+
+    // https://www.saucedemo.com/ -> https://www.saucedemo.com (storage state origin format).
+    private static String origin(String baseUrl) {
+        URI uri = URI.create(baseUrl);
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+}
@@ -0,0 +1,28 @@
+package com.playwright.java.base;
+
+import java.util.Comparator;
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+// Orders test classes using the previous run:
+// classes with a failed test first, then the longest classes first so parallel workers
+// pick the heaviest work early and finish closer together.
+// Registered in junit-platform.properties (junit.jupiter.testclass.order.default).
+public class HistoryAwareClassOrderer implements ClassOrderer {
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        TestHistory history = TestHistory.get();
+        Comparator<ClassDescriptor> byDisplayName = Comparator.comparing(ClassDescriptor::getDisplayName);
+
+        if (history.isEmpty()) {
+            context.getClassDescriptors().sort(byDisplayName);
+            return;
+        }
+
+        context.getClassDescriptors().sort(
+                Comparator.comparing((ClassDescriptor descriptor) -> !history.anyFailedLastRun(descriptor.getTestClass()))
+                        .thenComparing(descriptor -> history.totalDurationMs(descriptor.getTestClass()), Comparator.reverseOrder())
+                        .thenComparing(byDisplayName));
+    }
+}
@@ -0,0 +1,27 @@
+package com.playwright.java.base;
+
+import java.util.Comparator;
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+
+// Orders test methods using the previous run:
+// 1) tests that failed last time, 2) longest tests first, 3) display name (TCxx) as tie-break.
+// Without history it behaves like MethodOrderer.DisplayName.
+public class HistoryAwareMethodOrderer implements MethodOrderer {
+    @Override
+    public void orderMethods(MethodOrdererContext context) {
+        TestHistory history = TestHistory.get();
+        Comparator<MethodDescriptor> byDisplayName = Comparator.comparing(MethodDescriptor::getDisplayName);
+
+        if (history.isEmpty()) {
+            context.getMethodDescriptors().sort(byDisplayName);
+            return;
+        }
+
+        context.getMethodDescriptors().sort(
+                Comparator.comparing((MethodDescriptor descriptor) -> !history.failedLastRun(descriptor.getMethod()))
+                        .thenComparing(descriptor -> history.durationMs(descriptor.getMethod()), Comparator.reverseOrder())
+                        .thenComparing(byDisplayName));
+    }
+}
@@ -0,0 +1,134 @@
+package com.playwright.java.base;
+
+import com.microsoft.playwright.Page;
+import com.playwright.java.pages.PageCheck;
+import com.playwright.java.pages.SoftChecks;
+import io.qameta.allure.Allure;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Small journey DSL: test steps are declared with the ids of the steps they depend on, then run().
+// Actions run one at a time in declaration order once their dependencies are done.
+// Read-only check steps that are ready at the same time are resolved together in one page.evaluate,
+// then reported as their own Allure steps, so the report keeps the declared step structure.
+// A check step reports every failed check at once (SoftChecks) instead of stopping at the first one,
+// and every check step of a batch is reported before the failures of the whole batch are thrown together.
+// Playwright pages are thread-bound, so independent steps are batched rather than run on other threads.
+public final class JourneyPlan {
+    private final Page page;
+    private final Map<String, PlannedStep> steps = new LinkedHashMap<>();
+
+    private JourneyPlan(Page page) {
+        this.page = page;
+    }
+
+    public static JourneyPlan on(Page page) {
+        return new JourneyPlan(page);
+    }
+
+    public JourneyPlan action(String id, String title, Runnable body, String... dependsOn) {
+        return add(new PlannedStep(id, title, body, null, dependsOn));
+    }
+
+    public JourneyPlan checks(String id, String title, List<PageCheck> checks, String... dependsOn) {
+        return add(new PlannedStep(id, title, null, List.copyOf(checks), dependsOn));
+    }
+
+    public void run() {
+        validateDependencies();
+
+        List<String> done = new ArrayList<>();
+        while (done.size() < steps.size()) {
+            List<PlannedStep> ready = new ArrayList<>();
+            for (PlannedStep step : steps.values()) {
+                if (!done.contains(step.id) && done.containsAll(step.dependsOn)) {
+                    ready.add(step);
+                }
+            }
+            if (ready.isEmpty()) {
+                throw new IllegalStateException("Journey steps have a dependency cycle: " + pendingIds(done));
+            }
+
+            PlannedStep next = ready.get(0);
+            if (next.body != null) {
+                Allure.step(next.title, next.body::run);
+                done.add(next.id);
+                continue;
+            }
+
+            List<PlannedStep> batch = new ArrayList<>();
+            for (PlannedStep step : ready) {
+                if (step.checks != null) {
+                    batch.add(step);
+                }
+            }
+            runCheckBatch(batch);
+            batch.forEach(step -> done.add(step.id));
+        }
+    }
+
+    private void runCheckBatch(List<PlannedStep> batch) {
+        SoftChecks softChecks = SoftChecks.on(page);
+        batch.forEach(step -> softChecks.checkAll(step.checks));
+        List<PageCheck.Result> results = softChecks.evaluate();
+
+        List<String> failedSteps = new ArrayList<>();
+        int offset = 0;
+        for (PlannedStep step : batch) {
+            List<PageCheck.Result> stepResults = results.subList(offset, offset + step.checks.size());
+            try {
+                // Allure.step marks the step failed and rethrows; keep going so later steps are reported too.
+                Allure.step(step.title, () -> SoftChecks.assertAll(stepResults));
+            } catch (AssertionError failure) {
+                failedSteps.add(step.title + ": " + failure.getMessage());
+            }
+            offset += step.checks.size();
+        }
+
+        if (!failedSteps.isEmpty()) {
+            throw new AssertionError(failedSteps.size() + " of " + batch.size() + " check steps failed:"
+                    + System.lineSeparator() + String.join(System.lineSeparator(), failedSteps));
+        }
+    }
+
+    private JourneyPlan add(PlannedStep step) {
+        if (steps.putIfAbsent(step.id, step) != null) {
+            throw new IllegalStateException("Duplicate journey step id: " + step.id);
+        }
+        return this;
+    }
+
+    private void validateDependencies() {
+        for (PlannedStep step : steps.values()) {
+            for (String dependency : step.dependsOn) {
+                if (!steps.containsKey(dependency)) {
+                    throw new IllegalStateException("Journey step '" + step.id + "' depends on unknown step '" + dependency + "'");
+                }
+            }
+        }
+    }
+
+    private List<String> pendingIds(List<String> done) {
+        List<String> pending = new ArrayList<>(steps.keySet());
+        pending.removeAll(done);
+        return pending;
+    }
+
+    private static final class PlannedStep {
+        private final String id;
+        private final String title;
+        private final Runnable body;
+        private final List<PageCheck> checks;
+        private final List<String> dependsOn;
+
+        private PlannedStep(String id, String title, Runnable body, List<PageCheck> checks, String[] dependsOn) {
+            this.id = id;
+            this.title = title;
+            this.body = body;
+            this.checks = checks;
+            this.dependsOn = List.of(dependsOn);
+        }
+    }
+}
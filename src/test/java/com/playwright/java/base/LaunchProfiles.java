@@ -0,0 +1,89 @@
+package com.playwright.java.base;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import com.playwright.java.config.TestConfig;
+import com.playwright.java.config.TestConfig.LaunchProfile;
+import com.playwright.java.jfr.BrowserLaunchEvent;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Builds browser launch options for the configured launch profile:
+// - faithful: Playwright defaults, closest to a real user browser (default)
+// - fast: Chromium flags that cut startup and background work in short-lived test browsers
+// - debug: headed browser with slow motion for local troubleshooting
+// Also the single place that creates Playwright and launches an engine, for BaseTest and the load generator.
+public final class LaunchProfiles {
+    // Background services a test browser never needs.
+    private static final List<String> FAST_CHROMIUM_ARGS = List.of(
+            "--disable-gpu",
+            "--disable-extensions",
+            "--disable-background-networking",
+            "--disable-component-update",
+            "--disable-default-apps",
+            "--disable-sync",
+            "--no-first-run");
+
+    private static final int DEBUG_SLOW_MO_MS = 250;
+
+    private LaunchProfiles() {
+    }
+
+    // A fixed browsers directory (cached between CI runs) avoids re-downloading and unpacking engines.
+    public static Playwright createPlaywright(TestConfig config) {
+        if (config.browserCacheDir().isEmpty()) {
+            return Playwright.create();
+        }
+
+        Map<String, String> env = new HashMap<>(System.getenv());
+        env.put("PLAYWRIGHT_BROWSERS_PATH", Path.of(config.browserCacheDir()).toAbsolutePath().toString());
+        return Playwright.create(new Playwright.CreateOptions().setEnv(env));
+    }
+
+    public static Browser launch(Playwright playwright, TestConfig config, String engine) {
+        BrowserLaunchEvent event = new BrowserLaunchEvent();
+        event.begin();
+        Browser browser = browserType(playwright, engine).launch(optionsFor(config, engine));
+        event.engine = engine;
+        event.launchProfile = config.launchProfile().name();
+        event.commit();
+        RunMetrics.get().browserLaunched(browser);
+        return browser;
+    }
+
+    public static BrowserType.LaunchOptions optionsFor(TestConfig config, String engine) {
+        BrowserType.LaunchOptions launchOptions = new BrowserType.LaunchOptions().setHeadless(config.headless());
+        if (config.slowMoMs() > 0) {
+            launchOptions.setSlowMo((double) config.slowMoMs());
+        }
+
+        if (config.launchProfile() == LaunchProfile.DEBUG) {
+            launchOptions.setHeadless(false);
+            launchOptions.setSlowMo((double) (config.slowMoMs() > 0 ? config.slowMoMs() : DEBUG_SLOW_MO_MS));
+        } else if (config.launchProfile() == LaunchProfile.FAST && "chromium".equals(engine)) {
+            List<String> args = new ArrayList<>(FAST_CHROMIUM_ARGS);
+            // The sandbox only protects against hostile pages; drop it on disposable CI agents only.
+            if (System.getenv("CI") != null) {
+                args.add("--no-sandbox");
+            }
+            launchOptions.setArgs(args);
+        }
+
+        return launchOptions;
+    }
+
+    private static BrowserType browserType(Playwright playwright, String engine) {
+        switch (engine) {
+            case "firefox":
+                return playwright.firefox();
+            case "webkit":
+                return playwright.webkit();
+            default:
+                return playwright.chromium();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.playwright.java.base;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+import com.playwright.java.config.TestConfig;
+
+// Opt-in (memoryProfiling=true) browser memory sampling at the start and end of each test body.
+// Chromium: a garbage collection, then CDP Runtime.getHeapUsage (JS heap) and Memory.getDOMCounters
+// (documents, nodes, listeners), so growth reflects retained memory rather than garbage.
+// Other engines: DOM node count from the page only; the heap is not exposed there.
+// A marker on the start document tells whether the body navigated: growth between two different
+// documents is reported as cross-navigation and never flagged.
+final class MemoryProfiler {
+    private static final String DOM_NODE_COUNT = "() => document.getElementsByTagName('*').length";
+    private static final String MARK_DOCUMENT = "() => { window.__memoryProfileStart = true; }";
+    private static final String IS_MARKED_DOCUMENT = "() => window.__memoryProfileStart === true";
+
+    private final Page page;
+    private final CDPSession session;
+    private final TestConfig config;
+    private Sample start;
+
+    MemoryProfiler(BrowserContext context, Page page, String engine, TestConfig config) {
+        this.page = page;
+        this.session = "chromium".equals(engine) ? context.newCDPSession(page) : null;
+        this.config = config;
+    }
+
+    void start() {
+        page.evaluate(MARK_DOCUMENT);
+        start = sample();
+    }
+
+    // Null when the start sample was never taken (setup failed).
+    Delta finish() {
+        if (start == null) {
+            return null;
+        }
+        boolean sameDocument = Boolean.TRUE.equals(page.evaluate(IS_MARKED_DOCUMENT));
+        return new Delta(start, sample(), sameDocument, config);
+    }
+
+    private Sample sample() {
+        if (session == null) {
+            return new Sample(page.url(), -1L, ((Number) page.evaluate(DOM_NODE_COUNT)).longValue(), -1L, -1L);
+        }
+
+        session.send("HeapProfiler.collectGarbage");
+        JsonObject heap = session.send("Runtime.getHeapUsage");
+        JsonObject counters = session.send("Memory.getDOMCounters");
+        return new Sample(
+                page.url(),
+                heap.get("usedSize").getAsLong(),
+                counters.get("nodes").getAsLong(),
+                counters.get("documents").getAsLong(),
+                counters.get("jsEventListeners").getAsLong());
+    }
+
+    static final class Sample {
+        private final String url;
+        private final long jsHeapBytes;
+        private final long domNodes;
+        private final long documents;
+        private final long eventListeners;
+
+        private Sample(String url, long jsHeapBytes, long domNodes, long documents, long eventListeners) {
+            this.url = url;
+            this.jsHeapBytes = jsHeapBytes;
+            this.domNodes = domNodes;
+            this.documents = documents;
+            this.eventListeners = eventListeners;
+        }
+    }
+
+    static final class Delta {
+        private final Sample start;
+        private final Sample end;
+        private final boolean sameDocument;
+        private final boolean heapGrowthFlagged;
+        private final boolean nodeGrowthFlagged;
+
+        private Delta(Sample start, Sample end, boolean sameDocument, TestConfig config) {
+            this.start = start;
+            this.end = end;
+            this.sameDocument = sameDocument;
+            this.heapGrowthFlagged = sameDocument && start.jsHeapBytes >= 0
+                    && end.jsHeapBytes - start.jsHeapBytes > config.memoryHeapGrowthThresholdKb() * 1024L;
+            this.nodeGrowthFlagged = sameDocument && end.domNodes - start.domNodes > config.memoryNodeGrowthThreshold();
+        }
+
+        boolean isCrossNavigation() {
+            return !sameDocument;
+        }
+
+        boolean isFlagged() {
+            return heapGrowthFlagged || nodeGrowthFlagged;
+        }
+
+        String heapColumn() {
+            return start.jsHeapBytes < 0 ? "n/a" : (start.jsHeapBytes / 1024) + "->" + (end.jsHeapBytes / 1024);
+        }
+
+        String nodesColumn() {
+            return start.domNodes + "->" + end.domNodes;
+        }
+
+        String documentsColumn() {
+            return start.documents < 0 ? "n/a" : start.documents + "->" + end.documents;
+        }
+
+        String listenersColumn() {
+            return start.eventListeners < 0 ? "n/a" : start.eventListeners + "->" + end.eventListeners;
+        }
+
+        String flags() {
+            if (!sameDocument) {
+                return "cross-nav";
+            }
+            if (!isFlagged()) {
+                return "ok";
+            }
+            return (heapGrowthFlagged ? "HEAP" : "") + (heapGrowthFlagged && nodeGrowthFlagged ? "+" : "") + (nodeGrowthFlagged ? "NODES" : "");
+        }
+
+        String describe() {
+            return "jsHeapKb=" + heapColumn()
+                    + ", domNodes=" + nodesColumn()
+                    + ", documents=" + documentsColumn()
+                    + ", jsEventListeners=" + listenersColumn()
+                    + ", flags=" + flags()
+                    + (sameDocument ? "" : " (body navigated " + start.url + " -> " + end.url + "; samples come from different documents)");
+        }
+    }
+}
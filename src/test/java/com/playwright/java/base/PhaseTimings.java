@@ -0,0 +1,133 @@
+package com.playwright.java.base;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+// Per-test phase timing (setup, test body, teardown) plus run-level metrics such as cache hit rates.
+// With memoryProfiling=true, per-test browser memory samples are listed in a second table.
+// The report is rewritten to target/reports/phase-timings.txt whenever a class finishes.
+public final class PhaseTimings {
+    private static final Queue<Row> ROWS = new ConcurrentLinkedQueue<>();
+    private static final Queue<MemoryRow> MEMORY_ROWS = new ConcurrentLinkedQueue<>();
+    private static final Map<String, Supplier<String>> RUN_METRICS = new ConcurrentHashMap<>();
+
+    private PhaseTimings() {
+    }
+
+    public static void record(String test, String engine, long setupMs, long bodyMs, long teardownMs, boolean failed) {
+        ROWS.add(new Row(test, engine, setupMs, bodyMs, teardownMs, failed));
+        RunMetrics.get().recordPhase(RunMetrics.PHASE_SETUP, setupMs);
+        RunMetrics.get().recordPhase(RunMetrics.PHASE_BODY, bodyMs);
+        RunMetrics.get().recordPhase(RunMetrics.PHASE_TEARDOWN, teardownMs);
+    }
+
+    static void recordMemory(String test, String engine, MemoryProfiler.Delta delta) {
+        MEMORY_ROWS.add(new MemoryRow(test, engine, delta));
+    }
+
+    // Registers a run-level metric; the supplier is read each time the report is written.
+    public static void publishMetric(String name, Supplier<String> summary) {
+        RUN_METRICS.putIfAbsent(name, summary);
+    }
+
+    public static synchronized void writeReport() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-90s %-9s %9s %9s %12s %7s%n",
+                "test", "engine", "setup ms", "body ms", "teardown ms", "status"));
+
+        long setupTotal = 0;
+        long bodyTotal = 0;
+        long teardownTotal = 0;
+        for (Row row : ROWS) {
+            report.append(String.format("%-90s %-9s %9d %9d %12d %7s%n",
+                    row.test, row.engine, row.setupMs, row.bodyMs, row.teardownMs, row.failed ? "FAILED" : "ok"));
+            setupTotal += row.setupMs;
+            bodyTotal += row.bodyMs;
+            teardownTotal += row.teardownMs;
+        }
+
+        report.append(System.lineSeparator())
+                .append("totals: tests=").append(ROWS.size())
+                .append(", setup=").append(setupTotal).append(" ms")
+                .append(", body=").append(bodyTotal).append(" ms")
+                .append(", teardown=").append(teardownTotal).append(" ms")
+                .append(System.lineSeparator());
+        if (!MEMORY_ROWS.isEmpty()) {
+            appendMemoryTable(report);
+        }
+        for (Map.Entry<String, Supplier<String>> metric : new TreeMap<>(RUN_METRICS).entrySet()) {
+            report.append(metric.getValue().get()).append(System.lineSeparator());
+        }
+
+        try {
+            Path reportsDir = Path.of("target", "reports");
+            Files.createDirectories(reportsDir);
+            Files.writeString(reportsDir.resolve("phase-timings.txt"), report.toString(), StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            System.err.println("Failed to write phase timing report: " + exception.getMessage());
+        }
+    }
+
+    // Start -> end of each test body; flagged rows grew beyond the configured thresholds.
+    // cross-nav rows navigated during the body, so start and end describe different documents.
+    private static void appendMemoryTable(StringBuilder report) {
+        report.append(System.lineSeparator())
+                .append(String.format("%-90s %-9s %17s %15s %9s %13s %10s%n",
+                        "test", "engine", "js heap KB", "dom nodes", "documents", "listeners", "flags"));
+        int flagged = 0;
+        int crossNavigation = 0;
+        for (MemoryRow row : MEMORY_ROWS) {
+            report.append(String.format("%-90s %-9s %17s %15s %9s %13s %10s%n",
+                    row.test, row.engine, row.delta.heapColumn(), row.delta.nodesColumn(),
+                    row.delta.documentsColumn(), row.delta.listenersColumn(), row.delta.flags()));
+            if (row.delta.isFlagged()) {
+                flagged++;
+            }
+            if (row.delta.isCrossNavigation()) {
+                crossNavigation++;
+            }
+        }
+        report.append("memory: profiled=").append(MEMORY_ROWS.size())
+                .append(", flagged=").append(flagged)
+                .append(", crossNavigation=").append(crossNavigation)
+                .append(System.lineSeparator());
+    }
+
+    private static final class MemoryRow {
+        private final String test;
+        private final String engine;
+        private final MemoryProfiler.Delta delta;
+
+        private MemoryRow(String test, String engine, MemoryProfiler.Delta delta) {
+            this.test = test;
+            this.engine = engine;
+            this.delta = delta;
+        }
+    }
+
+    private static final class Row {
+        private final String test;
+        private final String engine;
+        private final long setupMs;
+        private final long bodyMs;
+        private final long teardownMs;
+        private final boolean failed;
+
+        private Row(String test, String engine, long setupMs, long bodyMs, long teardownMs, boolean failed) {
+            this.test = test;
+            this.engine = engine;
+            this.setupMs = setupMs;
+            this.bodyMs = bodyMs;
+            this.teardownMs = teardownMs;
+            this.failed = failed;
+        }
+    }
+}
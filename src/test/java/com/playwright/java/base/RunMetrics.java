@@ -0,0 +1,165 @@
+package com.playwright.java.base;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Live counters of the current run, served in the Prometheus text format by RunProgressListener.
+// Test outcomes come from RunProgressListener; browsers and contexts are tracked through their
+// close/disconnect events, so they stay correct whichever code path closes them.
+// Always collected (a few atomic updates per test); only exposed when metricsPort is set.
+public final class RunMetrics {
+    public static final String PHASE_SETUP = "setup";
+    public static final String PHASE_BODY = "body";
+    public static final String PHASE_TEARDOWN = "teardown";
+
+    // Upper bounds in milliseconds; the last bucket is +Inf.
+    private static final long[] PHASE_BUCKETS_MS = {100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000, 60_000, 120_000};
+    private static final String[] PHASES = {PHASE_SETUP, PHASE_BODY, PHASE_TEARDOWN};
+    private static final RunMetrics INSTANCE = new RunMetrics();
+
+    private final AtomicInteger testsRunning = new AtomicInteger();
+    private final LongAdder testsPassed = new LongAdder();
+    private final LongAdder testsFailed = new LongAdder();
+    private final LongAdder testsAborted = new LongAdder();
+    private final LongAdder testsSkipped = new LongAdder();
+
+    private final AtomicInteger browsersOpen = new AtomicInteger();
+    private final LongAdder browsersLaunched = new LongAdder();
+    private final AtomicInteger contextsOpen = new AtomicInteger();
+    private final LongAdder contextsCreated = new LongAdder();
+    private final AtomicInteger attachmentsPending = new AtomicInteger();
+
+    // One histogram per phase: bucket counts (non-cumulative), sum and count.
+    private final AtomicLongArray[] phaseBuckets = new AtomicLongArray[PHASES.length];
+    private final LongAdder[] phaseSumMs = new LongAdder[PHASES.length];
+    private final LongAdder[] phaseCount = new LongAdder[PHASES.length];
+
+    private RunMetrics() {
+        for (int phase = 0; phase < PHASES.length; phase++) {
+            phaseBuckets[phase] = new AtomicLongArray(PHASE_BUCKETS_MS.length + 1);
+            phaseSumMs[phase] = new LongAdder();
+            phaseCount[phase] = new LongAdder();
+        }
+    }
+
+    public static RunMetrics get() {
+        return INSTANCE;
+    }
+
+    void testStarted() {
+        testsRunning.incrementAndGet();
+    }
+
+    void testFinished(boolean passed, boolean aborted) {
+        testsRunning.decrementAndGet();
+        if (aborted) {
+            testsAborted.increment();
+        } else if (passed) {
+            testsPassed.increment();
+        } else {
+            testsFailed.increment();
+        }
+    }
+
+    void testSkipped() {
+        testsSkipped.increment();
+    }
+
+    public void browserLaunched(Browser browser) {
+        browsersLaunched.increment();
+        browsersOpen.incrementAndGet();
+        browser.onDisconnected(disconnected -> browsersOpen.decrementAndGet());
+    }
+
+    public void contextCreated(BrowserContext context) {
+        contextsCreated.increment();
+        contextsOpen.incrementAndGet();
+        context.onClose(closed -> contextsOpen.decrementAndGet());
+    }
+
+    // Screenshots, traces and visual diffs waiting to be copied into allure-results.
+    void attachmentQueued() {
+        attachmentsPending.incrementAndGet();
+    }
+
+    void attachmentWritten() {
+        attachmentsPending.decrementAndGet();
+    }
+
+    public void recordPhase(String phase, long durationMs) {
+        int index = phaseIndex(phase);
+        int bucket = 0;
+        while (bucket < PHASE_BUCKETS_MS.length && durationMs > PHASE_BUCKETS_MS[bucket]) {
+            bucket++;
+        }
+        phaseBuckets[index].incrementAndGet(bucket);
+        phaseSumMs[index].add(durationMs);
+        phaseCount[index].increment();
+    }
+
+    private static int phaseIndex(String phase) {
+        for (int index = 0; index < PHASES.length; index++) {
+            if (PHASES[index].equals(phase)) {
+                return index;
+            }
+        }
+        throw new IllegalStateException("Unknown test phase: " + phase);
+    }
+
+    // Prometheus text exposition format 0.0.4.
+    public String render() {
+        StringBuilder text = new StringBuilder();
+        gauge(text, "playwright_tests_running", "Tests currently executing", testsRunning.get());
+        text.append("# HELP playwright_tests_total Finished tests by outcome\n")
+                .append("# TYPE playwright_tests_total counter\n")
+                .append("playwright_tests_total{outcome=\"passed\"} ").append(testsPassed.sum()).append('\n')
+                .append("playwright_tests_total{outcome=\"failed\"} ").append(testsFailed.sum()).append('\n')
+                .append("playwright_tests_total{outcome=\"aborted\"} ").append(testsAborted.sum()).append('\n')
+                .append("playwright_tests_total{outcome=\"skipped\"} ").append(testsSkipped.sum()).append('\n');
+        gauge(text, "playwright_browsers_open", "Launched browsers not yet closed", browsersOpen.get());
+        counter(text, "playwright_browsers_launched_total", "Browsers launched", browsersLaunched.sum());
+        gauge(text, "playwright_contexts_open", "Browser contexts not yet closed", contextsOpen.get());
+        counter(text, "playwright_contexts_created_total", "Browser contexts created", contextsCreated.sum());
+        gauge(text, "playwright_attachments_pending",
+                "Screenshot and trace attachments queued for allure-results", attachmentsPending.get());
+
+        text.append("# HELP playwright_test_phase_duration_seconds Test setup, body and teardown duration\n")
+                .append("# TYPE playwright_test_phase_duration_seconds histogram\n");
+        for (int phase = 0; phase < PHASES.length; phase++) {
+            long cumulative = 0;
+            for (int bucket = 0; bucket <= PHASE_BUCKETS_MS.length; bucket++) {
+                cumulative += phaseBuckets[phase].get(bucket);
+                String upperBound = bucket == PHASE_BUCKETS_MS.length ? "+Inf" : seconds(PHASE_BUCKETS_MS[bucket]);
+                text.append("playwright_test_phase_duration_seconds_bucket{phase=\"").append(PHASES[phase])
+                        .append("\",le=\"").append(upperBound).append("\"} ").append(cumulative).append('\n');
+            }
+            text.append("playwright_test_phase_duration_seconds_sum{phase=\"").append(PHASES[phase]).append("\"} ")
+                    .append(seconds(phaseSumMs[phase].sum())).append('\n')
+                    .append("playwright_test_phase_duration_seconds_count{phase=\"").append(PHASES[phase]).append("\"} ")
+                    .append(phaseCount[phase].sum()).append('\n');
+        }
+        return text.toString();
+    }
+
+    private static void gauge(StringBuilder text, String name, String help, long value) {
+        metric(text, name, help, "gauge", value);
+    }
+
+    private static void counter(StringBuilder text, String name, String help, long value) {
+        metric(text, name, help, "counter", value);
+    }
+
+    private static void metric(StringBuilder text, String name, String help, String type, long value) {
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(name).append(' ').append(type).append('\n')
+                .append(name).append(' ').append(value).append('\n');
+    }
+
+    private static String seconds(long millis) {
+        return String.format(Locale.ROOT, "%.3f", millis / 1000.0);
+    }
+}
@@ -0,0 +1,100 @@
+package com.playwright.java.base;
+
+import com.playwright.java.config.TestConfig;
+import com.playwright.java.jfr.JfrRecorder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+// Feeds test outcomes into RunMetrics and, with metricsPort > 0, serves them on
+// http://127.0.0.1:<port>/metrics (Prometheus text format) for the duration of the run.
+// Only test leaves are counted: @BrowserTest invocations count once per engine.
+// Also stops the JFR recording (jfrRecording=true) and writes its summary once the plan has finished.
+// Registered in META-INF/services/org.junit.platform.launcher.TestExecutionListener.
+public class RunProgressListener implements TestExecutionListener {
+    private HttpServer server;
+    private ExecutorService executor;
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        int port;
+        try {
+            port = TestConfig.get().metricsPort();
+        } catch (IllegalStateException exception) {
+            // Invalid configuration is reported by the tests themselves; no endpoint for this run.
+            return;
+        }
+        if (port <= 0) {
+            return;
+        }
+
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "run-metrics");
+                thread.setDaemon(true);
+                return thread;
+            });
+            server.createContext("/metrics", RunProgressListener::serveMetrics);
+            server.setExecutor(executor);
+            server.start();
+            System.out.println("Run metrics available at http://127.0.0.1:" + port + "/metrics");
+        } catch (IOException exception) {
+            // Monitoring only: a busy port must not stop the run.
+            server = null;
+            System.err.println("Failed to start run metrics endpoint on port " + port + ": " + exception.getMessage());
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        JfrRecorder.finish();
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (testIdentifier.isTest()) {
+            RunMetrics.get().testStarted();
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        if (testIdentifier.isTest()) {
+            TestExecutionResult.Status status = testExecutionResult.getStatus();
+            RunMetrics.get().testFinished(
+                    status == TestExecutionResult.Status.SUCCESSFUL, status == TestExecutionResult.Status.ABORTED);
+        }
+    }
+
+    @Override
+    public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+        if (testIdentifier.isTest()) {
+            RunMetrics.get().testSkipped();
+        }
+    }
+
+    private static void serveMetrics(HttpExchange exchange) throws IOException {
+        byte[] body = RunMetrics.get().render().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+}
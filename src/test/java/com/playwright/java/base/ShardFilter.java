@@ -0,0 +1,149 @@
+package com.playwright.java.base;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+// Splits the suite across machines with -Dshard=i/n (1-based index).
+// With -DshardHistory=<path to history.json>, test methods are packed into n bins using
+// longest-processing-time first (heaviest test goes to the lightest bin). Every shard must be given
+// the same file; local history is never used because agents with different history would compute
+// different partitions and drop or duplicate tests. Without the property, methods are assigned by unique id hash.
+// Registered in META-INF/services/org.junit.platform.launcher.PostDiscoveryFilter.
+public class ShardFilter implements PostDiscoveryFilter {
+    private static final String SHARD_PROPERTY = "shard";
+    private static final String SHARD_HISTORY_PROPERTY = "shardHistory";
+
+    // Assigned tests per engine root, computed once when the full tree is first seen.
+    private final Map<TestDescriptor, Set<String>> assignedByRoot = new HashMap<>();
+
+    @Override
+    public synchronized FilterResult apply(TestDescriptor descriptor) {
+        String shard = System.getProperty(SHARD_PROPERTY);
+        if (shard == null || shard.isBlank() || !isTestMethod(descriptor)) {
+            return FilterResult.included("Not subject to sharding");
+        }
+
+        int[] shardSpec = parseShard(shard.trim());
+        int shardIndex = shardSpec[0];
+        int shardCount = shardSpec[1];
+        if (shardCount == 1) {
+            return FilterResult.included("Single shard");
+        }
+
+        TestDescriptor root = findRoot(descriptor);
+        Set<String> assigned = assignedByRoot.computeIfAbsent(root, key -> partition(key, shardIndex, shardCount));
+        String uniqueId = descriptor.getUniqueId().toString();
+
+        return assigned.contains(uniqueId)
+                ? FilterResult.included("Assigned to shard " + shard)
+                : FilterResult.excluded("Assigned to another shard than " + shard);
+    }
+
+    private static Set<String> partition(TestDescriptor root, int shardIndex, int shardCount) {
+        List<String> uniqueIds = new ArrayList<>();
+        collectTestMethods(root, uniqueIds);
+        // Stable input order so every machine computes the same split.
+        uniqueIds.sort(Comparator.naturalOrder());
+
+        String historyFile = System.getProperty(SHARD_HISTORY_PROPERTY);
+        Set<String> assigned = new HashSet<>();
+        if (historyFile == null || historyFile.isBlank()) {
+            for (String uniqueId : uniqueIds) {
+                if (Math.floorMod(uniqueId.hashCode(), shardCount) == shardIndex - 1) {
+                    assigned.add(uniqueId);
+                }
+            }
+            return assigned;
+        }
+
+        // A missing or empty shared file fails the run: falling back per agent could mix split strategies.
+        TestHistory history = TestHistory.fromHistoryFile(Path.of(historyFile.trim()));
+        if (history.isEmpty()) {
+            throw new IllegalStateException("Shard history file has no entries: " + historyFile);
+        }
+
+        // Tests without history weigh as the average known test.
+        Map<String, Long> durations = new HashMap<>();
+        long knownTotal = 0;
+        int knownCount = 0;
+        for (String uniqueId : uniqueIds) {
+            long duration = history.durationMs(uniqueId);
+            durations.put(uniqueId, duration);
+            if (duration > 0) {
+                knownTotal += duration;
+                knownCount++;
+            }
+        }
+        long fallbackDuration = knownCount == 0 ? 1L : Math.max(1L, knownTotal / knownCount);
+        durations.replaceAll((uniqueId, duration) -> duration > 0 ? duration : fallbackDuration);
+
+        // Stable sort keeps ties in unique id order.
+        uniqueIds.sort(Comparator.comparing(durations::get, Comparator.reverseOrder()));
+
+        long[] loads = new long[shardCount];
+        for (String uniqueId : uniqueIds) {
+            int lightest = 0;
+            for (int bin = 1; bin < shardCount; bin++) {
+                if (loads[bin] < loads[lightest]) {
+                    lightest = bin;
+                }
+            }
+            loads[lightest] += durations.get(uniqueId);
+            if (lightest == shardIndex - 1) {
+                assigned.add(uniqueId);
+            }
+        }
+        return assigned;
+    }
+
+    private static void collectTestMethods(TestDescriptor descriptor, List<String> uniqueIds) {
+        if (isTestMethod(descriptor)) {
+            uniqueIds.add(descriptor.getUniqueId().toString());
+        }
+        for (TestDescriptor child : descriptor.getChildren()) {
+            collectTestMethods(child, uniqueIds);
+        }
+    }
+
+    // Plain test methods and @BrowserTest templates (whose invocations only appear at execution time).
+    private static boolean isTestMethod(TestDescriptor descriptor) {
+        return descriptor.getSource().filter(MethodSource.class::isInstance).isPresent();
+    }
+
+    private static TestDescriptor findRoot(TestDescriptor descriptor) {
+        TestDescriptor current = descriptor;
+        while (current.getParent().isPresent()) {
+            current = current.getParent().get();
+        }
+        return current;
+    }
+
+    // Accepts "i/n" with 1 <= i <= n.
+    static int[] parseShard(String value) {
+        String[] parts = value.split("/");
+        if (parts.length != 2) {
+            throw new IllegalStateException("Invalid shard value (expected i/n): " + value);
+        }
+
+        try {
+            int index = Integer.parseInt(parts[0].trim());
+            int count = Integer.parseInt(parts[1].trim());
+            if (count < 1 || index < 1 || index > count) {
+                throw new IllegalStateException("Invalid shard value (expected 1 <= i <= n): " + value);
+            }
+            return new int[] {index, count};
+        } catch (NumberFormatException exception) {
+            throw new IllegalStateException("Invalid shard value (expected i/n): " + value, exception);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.playwright.java.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Starts a test from a named golden state (see GoldenStates and "goldenStates" in tests-data.json),
+// e.g. @StartFrom("inventory-with-backpack"). Without it, authenticated tests start from "inventory".
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StartFrom {
+    String value();
+}
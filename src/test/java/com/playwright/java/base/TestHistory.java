@@ -0,0 +1,226 @@
+package com.playwright.java.base;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+// Read-only view of previous executions, built from Allure output.
+// Sources: history/history.json (copied from the last report by the Maven initialize phase)
+// and any *-result.json still present in the results directory.
+// Entries are keyed by Allure historyId (md5 of the JUnit unique id).
+public final class TestHistory {
+    private static final String ENGINE_SEGMENT = "[engine:junit-jupiter]";
+    private static final int DURATION_SAMPLE_SIZE = 5;
+    private static final TestHistory INSTANCE = load();
+
+    private final Map<String, Entry> entries;
+
+    private TestHistory(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    public static TestHistory get() {
+        return INSTANCE;
+    }
+
+    public static Path resultsDirectory() {
+        return Path.of(System.getProperty("allure.results.directory", Path.of("target", "allure-results").toString()));
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public boolean failedLastRun(Method method) {
+        return failedLastRun(uniqueId(method));
+    }
+
+    public boolean failedLastRun(String uniqueId) {
+        Entry entry = entry(uniqueId);
+        return entry != null && entry.failed;
+    }
+
+    // Average duration of the latest runs, or -1 when the test has no history.
+    public long durationMs(Method method) {
+        return durationMs(uniqueId(method));
+    }
+
+    public long durationMs(String uniqueId) {
+        Entry entry = entry(uniqueId);
+        return entry == null ? -1L : entry.durationMs;
+    }
+
+    // Test templates (@BrowserTest) are recorded per invocation: the method entry
+    // aggregates them (failed if any invocation failed, duration summed over engines).
+    private Entry entry(String uniqueId) {
+        Entry direct = entries.get(md5(uniqueId));
+        if (direct != null) {
+            return direct;
+        }
+
+        boolean failed = false;
+        long totalDuration = 0;
+        boolean found = false;
+        for (int invocation = 1; ; invocation++) {
+            Entry invocationEntry = entries.get(md5(uniqueId + "/[test-template-invocation:#" + invocation + "]"));
+            if (invocationEntry == null) {
+                break;
+            }
+            found = true;
+            failed |= invocationEntry.failed;
+            totalDuration += Math.max(0L, invocationEntry.durationMs);
+        }
+        return found ? new Entry(failed, totalDuration) : null;
+    }
+
+    public boolean anyFailedLastRun(Class<?> testClass) {
+        return Arrays.stream(testClass.getDeclaredMethods()).anyMatch(this::failedLastRun);
+    }
+
+    public long totalDurationMs(Class<?> testClass) {
+        return Arrays.stream(testClass.getDeclaredMethods())
+                .mapToLong(this::durationMs)
+                .filter(duration -> duration > 0)
+                .sum();
+    }
+
+    // Same format JUnit Jupiter uses for method and test template unique ids.
+    public static String uniqueId(Method method) {
+        String parameterTypes = Arrays.stream(method.getParameterTypes())
+                .map(Class::getName)
+                .collect(Collectors.joining(", "));
+        String segmentType = AnnotationSupport.isAnnotated(method, TestTemplate.class) ? "test-template" : "method";
+        return ENGINE_SEGMENT
+                + "/[class:" + method.getDeclaringClass().getName() + "]"
+                + "/[" + segmentType + ":" + method.getName() + "(" + parameterTypes + ")]";
+    }
+
+    // Same hashing Allure JUnit Platform uses for historyId.
+    public static String historyId(Method method) {
+        return md5(uniqueId(method));
+    }
+
+    static String md5(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            return new BigInteger(1, digest).toString(16);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("MD5 algorithm is not available", exception);
+        }
+    }
+
+    // History from one explicit history.json only (no local raw results), so that every machine
+    // given the same file builds the same view. Used by ShardFilter.
+    public static TestHistory fromHistoryFile(Path historyFile) {
+        if (!Files.isRegularFile(historyFile)) {
+            throw new IllegalStateException("History file not found: " + historyFile.toAbsolutePath());
+        }
+
+        Map<String, Entry> entries = new HashMap<>();
+        readHistoryFile(new ObjectMapper(), historyFile, entries);
+        return new TestHistory(entries);
+    }
+
+    private static TestHistory load() {
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, Entry> entries = new HashMap<>();
+        Path resultsDir = resultsDirectory();
+
+        readHistoryFile(mapper, resultsDir.resolve("history").resolve("history.json"), entries);
+        // Raw results override history: they are newer when the directory was not cleaned.
+        readResultFiles(mapper, resultsDir, entries);
+
+        return new TestHistory(entries);
+    }
+
+    private static void readHistoryFile(ObjectMapper mapper, Path historyFile, Map<String, Entry> entries) {
+        if (!Files.isRegularFile(historyFile)) {
+            return;
+        }
+
+        try (InputStream input = Files.newInputStream(historyFile)) {
+            JsonNode root = mapper.readTree(input);
+            Iterator<Map.Entry<String, JsonNode>> fields = root.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode items = field.getValue().path("items");
+                if (!items.isArray() || items.isEmpty()) {
+                    continue;
+                }
+
+                long totalDuration = 0;
+                int samples = 0;
+                for (int index = 0; index < items.size() && samples < DURATION_SAMPLE_SIZE; index++) {
+                    long duration = items.get(index).path("time").path("duration").asLong(-1);
+                    if (duration >= 0) {
+                        totalDuration += duration;
+                        samples++;
+                    }
+                }
+
+                // Allure keeps the newest execution first.
+                String latestStatus = items.get(0).path("status").asText("");
+                entries.put(field.getKey(), new Entry(isFailure(latestStatus), samples == 0 ? -1L : totalDuration / samples));
+            }
+        } catch (IOException exception) {
+            System.err.println("Ignoring unreadable Allure history file: " + exception.getMessage());
+        }
+    }
+
+    private static void readResultFiles(ObjectMapper mapper, Path resultsDir, Map<String, Entry> entries) {
+        if (!Files.isDirectory(resultsDir)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> results = Files.newDirectoryStream(resultsDir, "*-result.json")) {
+            for (Path resultFile : results) {
+                try (InputStream input = Files.newInputStream(resultFile)) {
+                    JsonNode result = mapper.readTree(input);
+                    String historyId = result.path("historyId").asText("");
+                    if (historyId.isEmpty()) {
+                        continue;
+                    }
+
+                    long start = result.path("start").asLong(-1);
+                    long stop = result.path("stop").asLong(-1);
+                    long duration = start >= 0 && stop >= start ? stop - start : -1L;
+                    entries.put(historyId, new Entry(isFailure(result.path("status").asText("")), duration));
+                } catch (IOException exception) {
+                    System.err.println("Ignoring unreadable Allure result " + resultFile + ": " + exception.getMessage());
+                }
+            }
+        } catch (IOException exception) {
+            System.err.println("Failed to list Allure results in " + resultsDir + ": " + exception.getMessage());
+        }
+    }
+
+    private static boolean isFailure(String status) {
+        return "failed".equals(status) || "broken".equals(status);
+    }
+
+    private static final class Entry {
+        private final boolean failed;
+        private final long durationMs;
+
+        private Entry(boolean failed, long durationMs) {
+            this.failed = failed;
+            this.durationMs = durationMs;
+        }
+    }
+}
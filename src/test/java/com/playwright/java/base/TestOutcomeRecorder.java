@@ -0,0 +1,29 @@
+package com.playwright.java.base;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.LifecycleMethodExecutionExceptionHandler;
+
+// Runs right after the test body and before @AfterEach,
+// so teardown in BaseTest knows whether the current test failed.
+// A failing @BeforeEach (e.g. login) skips the test body and afterTestExecution,
+// so it is recorded from the lifecycle exception handler instead and the trace is kept.
+public class TestOutcomeRecorder implements AfterTestExecutionCallback, LifecycleMethodExecutionExceptionHandler {
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        record(context, context.getExecutionException().isPresent());
+    }
+
+    @Override
+    public void handleBeforeEachMethodExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        record(context, true);
+        throw throwable;
+    }
+
+    private static void record(ExtensionContext context, boolean failed) {
+        Object testInstance = context.getRequiredTestInstance();
+        if (testInstance instanceof BaseTest) {
+            ((BaseTest) testInstance).recordTestOutcome(failed);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.playwright.java.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+// Layered configuration lookup used once by TestConfig.
+// Priority (highest first): -D system property > SAUCEDEMO_* environment variable
+// > config/config-<profile>.properties > config/config.properties > default in code.
+// Errors are collected instead of thrown so every invalid key is reported in one pass.
+final class ConfigSources {
+    private static final String BASE_FILE = "config/config.properties";
+    private static final String ENV_PREFIX = "SAUCEDEMO_";
+
+    private final Properties baseProperties;
+    private final Properties profileProperties;
+    private final String profileFile;
+    private final Set<String> knownKeys = new LinkedHashSet<>();
+    private final Map<String, String> resolvedValues = new LinkedHashMap<>();
+    private final Map<String, String> resolvedSources = new LinkedHashMap<>();
+    private final List<String> errors = new ArrayList<>();
+
+    ConfigSources() {
+        baseProperties = readClasspathProperties(BASE_FILE, true);
+        // The profile selects a file layer, so it can only come from -D, env or the base file.
+        String profile = System.getProperty("profile");
+        if (isBlank(profile)) {
+            profile = System.getenv(toEnvironmentName("profile"));
+        }
+        if (isBlank(profile)) {
+            profile = baseProperties.getProperty("profile");
+        }
+        if (isBlank(profile)) {
+            profileFile = null;
+            profileProperties = new Properties();
+        } else {
+            profileFile = "config/config-" + profile.trim() + ".properties";
+            profileProperties = readClasspathProperties(profileFile, false);
+            if (profileProperties.isEmpty()) {
+                errors.add("Configuration profile file not found or empty: " + profileFile);
+            }
+        }
+    }
+
+    String profile() {
+        return optionalString("profile", "default");
+    }
+
+    String requiredString(String key) {
+        String value = lookup(key);
+        if (value == null) {
+            errors.add("Missing required configuration key: " + key);
+            return "";
+        }
+        return value;
+    }
+
+    String optionalString(String key, String defaultValue) {
+        String value = lookup(key);
+        if (value == null) {
+            record(key, defaultValue, "default");
+            return defaultValue;
+        }
+        return value;
+    }
+
+    int optionalInt(String key, int defaultValue) {
+        return optionalInt(key, defaultValue, 0);
+    }
+
+    int optionalInt(String key, int defaultValue, int min) {
+        String value = lookup(key);
+        if (value == null) {
+            record(key, String.valueOf(defaultValue), "default");
+            return defaultValue;
+        }
+
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < min) {
+                errors.add("Configuration key must be >= " + min + ": " + key);
+                return defaultValue;
+            }
+            return parsed;
+        } catch (NumberFormatException exception) {
+            errors.add("Invalid integer value for configuration key " + key + ": " + value);
+            return defaultValue;
+        }
+    }
+
+    boolean requiredBoolean(String key) {
+        String value = lookup(key);
+        if (value == null) {
+            errors.add("Missing required configuration key: " + key);
+            return false;
+        }
+        return parseBoolean(key, value, false);
+    }
+
+    boolean optionalBoolean(String key, boolean defaultValue) {
+        String value = lookup(key);
+        if (value == null) {
+            record(key, String.valueOf(defaultValue), "default");
+            return defaultValue;
+        }
+        return parseBoolean(key, value, defaultValue);
+    }
+
+    // Matches the value against the allowed options (case-insensitive), returning the canonical option.
+    String optionalChoice(String key, String defaultValue, String... options) {
+        String value = lookup(key);
+        if (value == null) {
+            record(key, defaultValue, "default");
+            return defaultValue;
+        }
+
+        for (String option : options) {
+            if (option.equalsIgnoreCase(value)) {
+                return option;
+            }
+        }
+        errors.add("Invalid value for configuration key " + key + " (expected "
+                + String.join("|", options) + "): " + value);
+        return defaultValue;
+    }
+
+    // Comma-separated list where every item must be one of the options; duplicates are dropped.
+    List<String> optionalList(String key, List<String> defaultValue, String... options) {
+        String value = lookup(key);
+        if (value == null) {
+            record(key, String.join(",", defaultValue), "default");
+            return defaultValue;
+        }
+
+        Set<String> items = new LinkedHashSet<>();
+        for (String item : value.split(",")) {
+            String trimmed = item.trim();
+            String matched = null;
+            for (String option : options) {
+                if (option.equalsIgnoreCase(trimmed)) {
+                    matched = option;
+                }
+            }
+            if (matched == null) {
+                errors.add("Invalid item for configuration key " + key + " (expected "
+                        + String.join("|", options) + "): " + trimmed);
+            } else {
+                items.add(matched);
+            }
+        }
+
+        if (items.isEmpty()) {
+            errors.add("Configuration key must list at least one item: " + key);
+            return defaultValue;
+        }
+        return List.copyOf(items);
+    }
+
+    // Comma-separated positive integers, e.g. "1000,10000,100000"; empty when unset.
+    List<Integer> optionalIntList(String key) {
+        String value = lookup(key);
+        if (value == null) {
+            record(key, "", "default");
+            return List.of();
+        }
+
+        List<Integer> items = new ArrayList<>();
+        for (String item : value.split(",")) {
+            try {
+                int parsed = Integer.parseInt(item.trim());
+                if (parsed <= 0) {
+                    errors.add("Configuration key items must be > 0: " + key);
+                } else {
+                    items.add(parsed);
+                }
+            } catch (NumberFormatException exception) {
+                errors.add("Invalid integer item for configuration key " + key + ": " + item.trim());
+            }
+        }
+        return List.copyOf(items);
+    }
+
+    // Throws once with every problem found, including unknown keys in the properties files.
+    void validate() {
+        addUnknownKeyErrors(baseProperties, BASE_FILE);
+        if (profileFile != null) {
+            addUnknownKeyErrors(profileProperties, profileFile);
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Invalid test configuration:\n - " + String.join("\n - ", errors));
+        }
+    }
+
+    Map<String, String> resolvedValues() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(resolvedValues));
+    }
+
+    Map<String, String> resolvedSources() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(resolvedSources));
+    }
+
+    private String lookup(String key) {
+        knownKeys.add(key);
+
+        String value = System.getProperty(key);
+        String source = "-D";
+        if (isBlank(value)) {
+            value = System.getenv(toEnvironmentName(key));
+            source = "env " + toEnvironmentName(key);
+        }
+        if (isBlank(value)) {
+            value = profileProperties.getProperty(key);
+            source = profileFile;
+        }
+        if (isBlank(value)) {
+            value = baseProperties.getProperty(key);
+            source = BASE_FILE;
+        }
+        if (isBlank(value)) {
+            return null;
+        }
+
+        String trimmed = value.trim();
+        record(key, trimmed, source);
+        return trimmed;
+    }
+
+    private void record(String key, String value, String source) {
+        resolvedValues.put(key, value);
+        resolvedSources.put(key, source);
+    }
+
+    private boolean parseBoolean(String key, String value, boolean defaultValue) {
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        errors.add("Invalid boolean value for configuration key " + key + ": " + value);
+        return defaultValue;
+    }
+
+    private void addUnknownKeyErrors(Properties properties, String file) {
+        for (String key : properties.stringPropertyNames()) {
+            if (!knownKeys.contains(key)) {
+                errors.add("Unknown configuration key in " + file + ": " + key);
+            }
+        }
+    }
+
+    // baseUrl -> SAUCEDEMO_BASE_URL
+    static String toEnvironmentName(String key) {
+        return ENV_PREFIX + key.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static Properties readClasspathProperties(String resource, boolean required) {
+        Properties properties = new Properties();
+        try (InputStream input = TestConfig.class.getClassLoader().getResourceAsStream(resource)) {
+            if (input == null) {
+                if (required) {
+                    throw new IllegalStateException(resource + " was not found in test resources");
+                }
+                return properties;
+            }
+            properties.load(input);
+        } catch (IOException exception) {
+            // Stops execution with a clear message if file loading fails.
+            throw new IllegalStateException("Failed to load " + resource, exception);
+        }
+        return properties;
+    }
+}
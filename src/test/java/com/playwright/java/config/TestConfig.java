@@ -1,89 +1,166 @@
 package com.playwright.java.config;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.Properties;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 // Class responsible for centralizing test configuration.
 // Example: URL, user, password, and headless mode.
 public class TestConfig {
+    // Playwright tracing modes: off, always kept, or kept only when the test fails.
+    public enum TraceMode {
+        OFF,
+        ON,
+        RETAIN_ON_FAILURE
+    }
+
+    // Browser launch presets (see LaunchProfiles).
+    public enum LaunchProfile {
+        FAITHFUL,
+        FAST,
+        DEBUG
+    }
+
+    // Static asset caching modes shared by all contexts (see network package).
+    public enum AssetCacheMode {
+        OFF,
+        DISK,
+        MEMORY
+    }
+
+    // Emulated network conditions applied to every context (see NetworkConditions).
+    public enum NetworkProfile {
+        OFF,
+        LAN,
+        FAST3G,
+        SLOW3G
+    }
+
     // Final values used during test execution.
+    private final String profile;
     private final String baseUrl;
     private final String username;
     private final String password;
     private final boolean headless;
+    private final List<String> browsers;
+    private final LaunchProfile launchProfile;
+    private final String browserCacheDir;
     private final int viewportWidth;
     private final int viewportHeight;
     private final int defaultTimeoutMs;
     private final int navigationTimeoutMs;
     private final int slowMoMs;
     private final boolean screenshotOnTeardown;
+    private final boolean screenshotDrift;
+    private final TraceMode trace;
+    private final boolean traceScreenshots;
+    private final boolean traceSnapshots;
+    private final int gzipTextAttachmentsOverKb;
+    private final AssetCacheMode assetCache;
+    private final String assetCacheDir;
+    private final int assetCacheMaxMb;
+    private final int assetCacheMaxAgeMinutes;
+    private final List<Integer> stressItemCounts;
+    private final int loadUsers;
+    private final int loadBrowsers;
+    private final int loadRampUpSeconds;
+    private final int loadDurationSeconds;
+    private final String visualBaselineDir;
+    private final boolean visualUpdateBaselines;
+    private final int visualPixelTolerance;
+    private final int visualMaxMismatchPermille;
+    private final int visualHashThreshold;
+    private final NetworkProfile networkProfile;
+    private final int cpuThrottlingRate;
+    private final boolean memoryProfiling;
+    private final int memoryHeapGrowthThresholdKb;
+    private final int memoryNodeGrowthThreshold;
+    private final boolean jfrRecording;
+    private final int metricsPort;
+
+    // Resolved key -> value and key -> source, kept for the Allure config snapshot.
+    private final Map<String, String> resolvedValues;
+    private final Map<String, String> resolvedSources;
+
+    // Loaded on first use instead of in a static initializer: a validation error would otherwise surface
+    // once as ExceptionInInitializerError and then as NoClassDefFoundError, hiding the message.
+    private static TestConfig instance;
+    private static IllegalStateException loadFailure;
 
-    // Private constructor: forces creation through load().
-    private TestConfig(
-            String baseUrl,
-            String username,
-            String password,
-            boolean headless,
-            int viewportWidth,
-            int viewportHeight,
-            int defaultTimeoutMs,
-            int navigationTimeoutMs,
-            int slowMoMs,
-            boolean screenshotOnTeardown) {
-        this.baseUrl = baseUrl;
-        this.username = username;
-        this.password = password;
-        this.headless = headless;
-        this.viewportWidth = viewportWidth;
-        this.viewportHeight = viewportHeight;
-        this.defaultTimeoutMs = defaultTimeoutMs;
-        this.navigationTimeoutMs = navigationTimeoutMs;
-        this.slowMoMs = slowMoMs;
-        this.screenshotOnTeardown = screenshotOnTeardown;
-    }
-
-    // Reads configuration from config.properties
-    // and allows overriding with Maven -D parameters.
-    public static TestConfig load() {
-        // Structure that stores key=value pairs.
-        Properties properties = new Properties();
-
-        // Tries to read src/test/resources/config/config.properties from classpath.
-        try (InputStream input = TestConfig.class.getClassLoader().getResourceAsStream("config/config.properties")) {
-            if (input == null) {
-                throw new IllegalStateException("config.properties was not found in test resources");
+    // Private constructor: forces creation through get().
+    // Every key is read here, and all problems are reported together by validate().
+    private TestConfig(ConfigSources sources) {
+        this.profile = sources.profile();
+        this.baseUrl = sources.requiredString("baseUrl");
+        this.username = sources.requiredString("username");
+        this.password = sources.requiredString("password");
+        this.headless = sources.requiredBoolean("headless");
+        this.browsers = sources.optionalList("browsers", List.of("chromium"), "chromium", "firefox", "webkit");
+        this.launchProfile = LaunchProfile.valueOf(
+                sources.optionalChoice("launchProfile", "faithful", "faithful", "fast", "debug").toUpperCase(Locale.ROOT));
+        this.browserCacheDir = sources.optionalString("browserCacheDir", "");
+        this.viewportWidth = sources.optionalInt("viewportWidth", 1280);
+        this.viewportHeight = sources.optionalInt("viewportHeight", 720);
+        this.defaultTimeoutMs = sources.optionalInt("defaultTimeoutMs", 15_000);
+        this.navigationTimeoutMs = sources.optionalInt("navigationTimeoutMs", 30_000);
+        this.slowMoMs = sources.optionalInt("slowMoMs", 0);
+        this.screenshotOnTeardown = sources.optionalBoolean("screenshotOnTeardown", true);
+        this.screenshotDrift = sources.optionalBoolean("screenshotDrift", false);
+        this.trace = toTraceMode(sources.optionalChoice("trace", "off", "off", "on", "retainOnFailure"));
+        this.traceScreenshots = sources.optionalBoolean("traceScreenshots", true);
+        this.traceSnapshots = sources.optionalBoolean("traceSnapshots", true);
+        this.gzipTextAttachmentsOverKb = sources.optionalInt("gzipTextAttachmentsOverKb", 0);
+        this.assetCache = AssetCacheMode.valueOf(
+                sources.optionalChoice("assetCache", "off", "off", "disk", "memory").toUpperCase(Locale.ROOT));
+        this.assetCacheDir = sources.optionalString("assetCacheDir", "target/asset-cache");
+        this.assetCacheMaxMb = sources.optionalInt("assetCacheMaxMb", 100);
+        this.assetCacheMaxAgeMinutes = sources.optionalInt("assetCacheMaxAgeMinutes", 60);
+        this.stressItemCounts = sources.optionalIntList("stressItemCounts");
+        this.loadUsers = sources.optionalInt("loadUsers", 0);
+        this.loadBrowsers = Math.max(1, sources.optionalInt("loadBrowsers", 2));
+        this.loadRampUpSeconds = sources.optionalInt("loadRampUpSeconds", 10);
+        this.loadDurationSeconds = sources.optionalInt("loadDurationSeconds", 60);
+        this.visualBaselineDir = sources.optionalString("visualBaselineDir", "src/test/resources/visual-baselines");
+        this.visualUpdateBaselines = sources.optionalBoolean("visualUpdateBaselines", false);
+        this.visualPixelTolerance = Math.min(255, sources.optionalInt("visualPixelTolerance", 16));
+        this.visualMaxMismatchPermille = Math.min(1000, sources.optionalInt("visualMaxMismatchPermille", 5));
+        this.visualHashThreshold = Math.min(64, sources.optionalInt("visualHashThreshold", -1, -1));
+        this.networkProfile = NetworkProfile.valueOf(
+                sources.optionalChoice("networkProfile", "off", "off", "lan", "fast3g", "slow3g").toUpperCase(Locale.ROOT));
+        this.cpuThrottlingRate = Math.max(1, sources.optionalInt("cpuThrottlingRate", 1));
+        this.memoryProfiling = sources.optionalBoolean("memoryProfiling", false);
+        this.memoryHeapGrowthThresholdKb = sources.optionalInt("memoryHeapGrowthThresholdKb", 10_240);
+        this.memoryNodeGrowthThreshold = sources.optionalInt("memoryNodeGrowthThreshold", 2_000);
+        this.jfrRecording = sources.optionalBoolean("jfrRecording", false);
+        this.metricsPort = sources.optionalInt("metricsPort", 0);
+
+        sources.validate();
+        this.resolvedValues = sources.resolvedValues();
+        this.resolvedSources = sources.resolvedSources();
+    }
+
+    // Run-wide configuration, loaded once per JVM and shared by every test class and worker thread.
+    // A failed load is remembered and the same IllegalStateException is thrown to every caller.
+    public static synchronized TestConfig get() {
+        if (instance == null && loadFailure == null) {
+            try {
+                instance = load();
+            } catch (IllegalStateException exception) {
+                loadFailure = exception;
             }
-            properties.load(input);
-        } catch (IOException exception) {
-            // Stops execution with a clear message if file loading fails.
-            throw new IllegalStateException("Failed to load config.properties", exception);
         }
+        if (loadFailure != null) {
+            throw loadFailure;
+        }
+        return instance;
+    }
 
-        // Priority: system parameter (-D) > properties file.
-        String baseUrl = readRequiredSetting("baseUrl", properties);
-        String username = readRequiredSetting("username", properties);
-        String password = readRequiredSetting("password", properties);
-        boolean headless = Boolean.parseBoolean(readRequiredSetting("headless", properties));
-        int viewportWidth = readOptionalIntSetting("viewportWidth", properties, 1280);
-        int viewportHeight = readOptionalIntSetting("viewportHeight", properties, 720);
-        int defaultTimeoutMs = readOptionalIntSetting("defaultTimeoutMs", properties, 15_000);
-        int navigationTimeoutMs = readOptionalIntSetting("navigationTimeoutMs", properties, 30_000);
-        int slowMoMs = readOptionalIntSetting("slowMoMs", properties, 0);
-        boolean screenshotOnTeardown = readOptionalBooleanSetting("screenshotOnTeardown", properties, true);
-
-        // Returns an immutable configuration object.
-        return new TestConfig(
-            baseUrl,
-            username,
-            password,
-            headless,
-            viewportWidth,
-            viewportHeight,
-            defaultTimeoutMs,
-            navigationTimeoutMs,
-            slowMoMs,
-            screenshotOnTeardown);
+    // Reads config.properties, the optional profile file (-Dprofile=ci -> config-ci.properties),
+    // SAUCEDEMO_* environment variables and Maven -D parameters.
+    private static TestConfig load() {
+        return new TestConfig(new ConfigSources());
     }
 
     // Getters in modern Java style (short names).
@@ -99,10 +176,28 @@ public class TestConfig {
         return password;
     }
 
+    public String profile() {
+        return profile;
+    }
+
     public boolean headless() {
         return headless;
     }
 
+    // Browser engines every test runs against, in configuration order.
+    public List<String> browsers() {
+        return browsers;
+    }
+
+    public LaunchProfile launchProfile() {
+        return launchProfile;
+    }
+
+    // Directory with installed browser binaries (PLAYWRIGHT_BROWSERS_PATH); empty means Playwright's default.
+    public String browserCacheDir() {
+        return browserCacheDir;
+    }
+
     public int viewportWidth() {
         return viewportWidth;
     }
@@ -127,50 +222,139 @@ public class TestConfig {
         return screenshotOnTeardown;
     }
 
-    private static String readRequiredSetting(String key, Properties properties) {
-        String value = System.getProperty(key);
-        if (value == null || value.isBlank()) {
-            value = properties.getProperty(key);
-        }
+    public boolean screenshotDrift() {
+        return screenshotDrift;
+    }
 
-        if (value == null || value.isBlank()) {
-            throw new IllegalStateException("Missing required configuration key: " + key);
-        }
+    public TraceMode trace() {
+        return trace;
+    }
 
-        return value.trim();
+    public boolean traceScreenshots() {
+        return traceScreenshots;
     }
 
-    private static int readOptionalIntSetting(String key, Properties properties, int defaultValue) {
-        String value = System.getProperty(key);
-        if (value == null || value.isBlank()) {
-            value = properties.getProperty(key);
-        }
+    public boolean traceSnapshots() {
+        return traceSnapshots;
+    }
 
-        if (value == null || value.isBlank()) {
-            return defaultValue;
-        }
+    // Text evidence above this size is gzip-compressed; smaller evidence stays viewable in the report (0 = never).
+    public int gzipTextAttachmentsOverKb() {
+        return gzipTextAttachmentsOverKb;
+    }
 
-        try {
-            int parsed = Integer.parseInt(value.trim());
-            if (parsed < 0) {
-                throw new IllegalStateException("Configuration key must be >= 0: " + key);
-            }
-            return parsed;
-        } catch (NumberFormatException exception) {
-            throw new IllegalStateException("Invalid integer value for configuration key: " + key, exception);
-        }
+    public AssetCacheMode assetCache() {
+        return assetCache;
     }
 
-    private static boolean readOptionalBooleanSetting(String key, Properties properties, boolean defaultValue) {
-        String value = System.getProperty(key);
-        if (value == null || value.isBlank()) {
-            value = properties.getProperty(key);
-        }
+    public String assetCacheDir() {
+        return assetCacheDir;
+    }
 
-        if (value == null || value.isBlank()) {
-            return defaultValue;
-        }
+    public int assetCacheMaxMb() {
+        return assetCacheMaxMb;
+    }
+
+    // How long a disk cache entry without an ETag is served before it is fetched again.
+    public int assetCacheMaxAgeMinutes() {
+        return assetCacheMaxAgeMinutes;
+    }
+
+    // Synthetic inventory sizes for the stress mode; empty disables it.
+    public List<Integer> stressItemCounts() {
+        return stressItemCounts;
+    }
+
+    // Concurrent virtual users of the load mode; 0 disables it.
+    public int loadUsers() {
+        return loadUsers;
+    }
+
+    public int loadBrowsers() {
+        return loadBrowsers;
+    }
+
+    public int loadRampUpSeconds() {
+        return loadRampUpSeconds;
+    }
+
+    public int loadDurationSeconds() {
+        return loadDurationSeconds;
+    }
+
+    public String visualBaselineDir() {
+        return visualBaselineDir;
+    }
+
+    public boolean visualUpdateBaselines() {
+        return visualUpdateBaselines;
+    }
+
+    // Largest per-channel difference (0-255) still treated as the same pixel (anti-aliasing noise).
+    public int visualPixelTolerance() {
+        return visualPixelTolerance;
+    }
+
+    // Share of differing pixels, in thousandths, above which a visual comparison fails.
+    public int visualMaxMismatchPermille() {
+        return visualMaxMismatchPermille;
+    }
 
-        return Boolean.parseBoolean(value.trim());
+    // Hamming distance (0-64) up to which a capture is considered unchanged and the pixel diff is skipped;
+    // negative means the pixel diff always runs.
+    public int visualHashThreshold() {
+        return visualHashThreshold;
+    }
+
+    public NetworkProfile networkProfile() {
+        return networkProfile;
+    }
+
+    // CPU slowdown factor for Chromium pages (1 = no throttling).
+    public int cpuThrottlingRate() {
+        return cpuThrottlingRate;
+    }
+
+    public boolean memoryProfiling() {
+        return memoryProfiling;
+    }
+
+    // JS heap growth (after GC) over a test body that flags the test in the phase timings report.
+    public int memoryHeapGrowthThresholdKb() {
+        return memoryHeapGrowthThresholdKb;
+    }
+
+    public int memoryNodeGrowthThreshold() {
+        return memoryNodeGrowthThreshold;
+    }
+
+    // Records a JDK Flight Recorder file of the run with framework events (see JfrRecorder).
+    public boolean jfrRecording() {
+        return jfrRecording;
+    }
+
+    // Local port of the live Prometheus metrics endpoint (0 = disabled, see RunProgressListener).
+    public int metricsPort() {
+        return metricsPort;
+    }
+
+    // Snapshot of every resolved key as "value [source]", with the password masked.
+    public Map<String, String> describe() {
+        Map<String, String> description = new LinkedHashMap<>();
+        resolvedValues.forEach((key, value) -> description.put(
+                key,
+                ("password".equals(key) ? "****" : value) + " [" + resolvedSources.get(key) + "]"));
+        return Collections.unmodifiableMap(description);
+    }
+
+    private static TraceMode toTraceMode(String value) {
+        switch (value) {
+            case "on":
+                return TraceMode.ON;
+            case "retainOnFailure":
+                return TraceMode.RETAIN_ON_FAILURE;
+            default:
+                return TraceMode.OFF;
+        }
     }
 }
@@ -80,6 +80,23 @@ public final class TestData {
         return requiredText("global", "products", productKey, field);
     }
 
+    // Numeric id SauceDemo stores in the cart-contents localStorage entry.
+    public int productId(String productKey) {
+        return requiredNode("global", "products", productKey, "id").asInt();
+    }
+
+    // Golden state definitions used by @StartFrom: route key and products already in the cart.
+    public String goldenStateRoute(String name) {
+        return requiredText("global", "goldenStates", name, "routeRef");
+    }
+
+    public List<String> goldenStateProducts(String name) {
+        List<String> products = new ArrayList<>();
+        requiredNode("global", "goldenStates", name, "cartProducts").elements()
+                .forEachRemaining(product -> products.add(product.asText()));
+        return products;
+    }
+
     public String knownIndicator(String key) {
         return requiredText("global", "knownIndicators", key);
     }
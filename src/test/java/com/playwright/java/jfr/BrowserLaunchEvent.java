@@ -0,0 +1,16 @@
+package com.playwright.java.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.playwright.java.BrowserLaunch")
+@Label("Browser Launch")
+@Category({"Playwright Tests"})
+public class BrowserLaunchEvent extends jdk.jfr.Event {
+    @Label("Engine")
+    public String engine;
+
+    @Label("Launch Profile")
+    public String launchProfile;
+}
@@ -0,0 +1,257 @@
+package com.playwright.java.jfr;
+
+import com.playwright.java.config.TestConfig;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+// Opt-in (jfrRecording=true) Flight Recorder session for the whole test JVM.
+// Records the JDK "default" settings plus the framework events of this package, and when the test plan
+// finishes (RunProgressListener) writes target/reports/test-run.jfr and target/reports/jfr-summary.txt.
+// Not a shutdown hook: the JDK's own JFR hook may stop the recording first, in no fixed order.
+// The summary attributes sampled allocations to a test class by worker thread and time span
+// (TestClassEvent), lists the heaviest non-test threads (Playwright connections, HTTP servers),
+// and counts the GC pauses that happened while each class was running.
+public final class JfrRecorder {
+    private static final Path RECORDING_FILE = Path.of("target", "reports", "test-run.jfr");
+    private static final Path SUMMARY_FILE = Path.of("target", "reports", "jfr-summary.txt");
+    private static final int TOP_ENTRIES = 5;
+    private static final AtomicBoolean STARTED = new AtomicBoolean(false);
+    private static Recording recording;
+
+    private JfrRecorder() {
+    }
+
+    // The first test class to start begins the recording; later calls are no-ops.
+    public static void startOnce(TestConfig config) {
+        if (!config.jfrRecording() || !STARTED.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(RECORDING_FILE.getParent());
+            Recording started = new Recording(Configuration.getConfiguration("default"));
+            started.setName("playwright-tests");
+            started.enable(TestClassEvent.class);
+            started.enable(TestExecutionEvent.class);
+            started.enable(BrowserLaunchEvent.class);
+            started.enable(ScreenshotEvent.class);
+            started.enable("jdk.ObjectAllocationSample").with("throttle", "300/s");
+            started.setToDisk(true);
+            started.setDestination(RECORDING_FILE);
+            started.start();
+            synchronized (JfrRecorder.class) {
+                recording = started;
+            }
+        } catch (IOException | ParseException exception) {
+            System.err.println("Failed to start JFR recording: " + exception.getMessage());
+        }
+    }
+
+    // Called once the test plan has finished; a no-op unless a recording was started.
+    public static synchronized void finish() {
+        if (recording == null) {
+            return;
+        }
+        Recording finished = recording;
+        recording = null;
+        try {
+            finished.stop();
+            finished.close();
+            Files.writeString(SUMMARY_FILE, summarize(RECORDING_FILE), StandardCharsets.UTF_8);
+        } catch (IOException | RuntimeException exception) {
+            System.err.println("Failed to write JFR summary: " + exception.getMessage());
+        }
+    }
+
+    // Streams the recording twice instead of loading it: the first pass keeps only the class spans
+    // and GC pauses (a few small records), the second attributes every other event to a span.
+    static String summarize(Path recordingFile) throws IOException {
+        List<ClassSpan> spans = new ArrayList<>();
+        List<GcPause> gcPauses = new ArrayList<>();
+        try (RecordingFile recording = new RecordingFile(recordingFile)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                String type = event.getEventType().getName();
+                if ("com.playwright.java.TestClass".equals(type) && event.getThread() != null) {
+                    spans.add(new ClassSpan(event.getString("testClass"), event.getThread().getJavaThreadId(),
+                            event.getStartTime(), event.getEndTime()));
+                } else if ("jdk.GarbageCollection".equals(type)) {
+                    gcPauses.add(new GcPause(event.getStartTime(), event.getDuration("sumOfPauses")));
+                }
+            }
+        }
+
+        Map<String, ClassStats> statsByClass = new TreeMap<>();
+        Map<String, Long> otherThreadBytes = new HashMap<>();
+        long totalSampledBytes = 0;
+        try (RecordingFile recording = new RecordingFile(recordingFile)) {
+            while (recording.hasMoreEvents()) {
+                totalSampledBytes += attribute(recording.readEvent(), spans, statsByClass, otherThreadBytes);
+            }
+        }
+
+        // GC pauses stop every thread, so each class running at the time pays for them.
+        for (ClassSpan span : spans) {
+            ClassStats stats = statsByClass.computeIfAbsent(span.testClass, key -> new ClassStats());
+            for (GcPause gc : gcPauses) {
+                if (!gc.start.isBefore(span.start) && !gc.start.isAfter(span.end)) {
+                    stats.gcCount++;
+                    stats.gcPause = stats.gcPause.plus(gc.pause);
+                }
+            }
+        }
+
+        return format(statsByClass, otherThreadBytes, totalSampledBytes, gcPauses);
+    }
+
+    // Adds one event to the per-class stats; returns its sampled allocation weight (0 for other events).
+    private static long attribute(RecordedEvent event, List<ClassSpan> spans, Map<String, ClassStats> statsByClass,
+            Map<String, Long> otherThreadBytes) {
+        String type = event.getEventType().getName();
+        RecordedThread thread = event.getThread();
+        ClassSpan span = thread == null ? null : spanOf(spans, thread.getJavaThreadId(), event.getStartTime());
+
+        switch (type) {
+            case "jdk.ObjectAllocationSample":
+                long weight = event.getLong("weight");
+                if (span != null) {
+                    ClassStats stats = statsByClass.computeIfAbsent(span.testClass, key -> new ClassStats());
+                    stats.allocatedBytes += weight;
+                    stats.allocatedByType.merge(event.getClass("objectClass").getName(), weight, Long::sum);
+                } else if (thread != null) {
+                    otherThreadBytes.merge(String.valueOf(thread.getJavaName()), weight, Long::sum);
+                }
+                return weight;
+            case "com.playwright.java.TestExecution":
+                ClassStats testStats = statsByClass.computeIfAbsent(event.getString("testClass"), key -> new ClassStats());
+                testStats.tests++;
+                testStats.testTime = testStats.testTime.plus(event.getDuration());
+                if (event.getBoolean("failed")) {
+                    testStats.failedTests++;
+                }
+                break;
+            case "com.playwright.java.Screenshot":
+                if (span != null) {
+                    ClassStats stats = statsByClass.computeIfAbsent(span.testClass, key -> new ClassStats());
+                    stats.screenshots++;
+                    stats.screenshotBytes += event.getLong("bytes");
+                }
+                break;
+            case "com.playwright.java.BrowserLaunch":
+                if (span != null) {
+                    ClassStats stats = statsByClass.computeIfAbsent(span.testClass, key -> new ClassStats());
+                    stats.launches++;
+                    stats.launchTime = stats.launchTime.plus(event.getDuration());
+                }
+                break;
+            default:
+                break;
+        }
+        return 0;
+    }
+
+    private static ClassSpan spanOf(List<ClassSpan> spans, long threadId, Instant time) {
+        for (ClassSpan span : spans) {
+            if (span.threadId == threadId && !time.isBefore(span.start) && !time.isAfter(span.end)) {
+                return span;
+            }
+        }
+        return null;
+    }
+
+    private static String format(Map<String, ClassStats> statsByClass, Map<String, Long> otherThreadBytes,
+            long totalSampledBytes, List<GcPause> gcPauses) {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%-28s %6s %7s %10s %13s %5s %12s %12s %14s  %s%n",
+                "test class", "tests", "failed", "test ms", "alloc MB (est)", "gcs", "gc pause ms",
+                "screenshots", "launches (ms)", "top allocated types"));
+        for (Map.Entry<String, ClassStats> entry : statsByClass.entrySet()) {
+            ClassStats stats = entry.getValue();
+            summary.append(String.format("%-28s %6d %7d %10d %13.1f %5d %12d %12s %14s  %s%n",
+                    entry.getKey(), stats.tests, stats.failedTests, stats.testTime.toMillis(),
+                    stats.allocatedBytes / (1024.0 * 1024.0), stats.gcCount, stats.gcPause.toMillis(),
+                    stats.screenshots + " (" + stats.screenshotBytes / 1024 + " KB)",
+                    stats.launches + " (" + stats.launchTime.toMillis() + ")",
+                    top(stats.allocatedByType)));
+        }
+
+        Duration totalPause = Duration.ZERO;
+        for (GcPause gc : gcPauses) {
+            totalPause = totalPause.plus(gc.pause);
+        }
+        summary.append(System.lineSeparator())
+                .append(String.format("run: sampled allocation=%.1f MB, gcs=%d, gc pause=%d ms%n",
+                        totalSampledBytes / (1024.0 * 1024.0), gcPauses.size(), totalPause.toMillis()))
+                .append("heaviest non-test threads: ").append(top(otherThreadBytes))
+                .append(System.lineSeparator());
+        return summary.toString();
+    }
+
+    private static String top(Map<String, Long> bytesByName) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(bytesByName.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        StringBuilder top = new StringBuilder();
+        for (int index = 0; index < Math.min(TOP_ENTRIES, entries.size()); index++) {
+            if (index > 0) {
+                top.append(", ");
+            }
+            top.append(entries.get(index).getKey()).append('=')
+                    .append(entries.get(index).getValue() / 1024).append(" KB");
+        }
+        return top.length() == 0 ? "-" : top.toString();
+    }
+
+    private static final class ClassSpan {
+        private final String testClass;
+        private final long threadId;
+        private final Instant start;
+        private final Instant end;
+
+        private ClassSpan(String testClass, long threadId, Instant start, Instant end) {
+            this.testClass = testClass;
+            this.threadId = threadId;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private static final class GcPause {
+        private final Instant start;
+        private final Duration pause;
+
+        private GcPause(Instant start, Duration pause) {
+            this.start = start;
+            this.pause = pause;
+        }
+    }
+
+    private static final class ClassStats {
+        private int tests;
+        private int failedTests;
+        private Duration testTime = Duration.ZERO;
+        private long allocatedBytes;
+        private final Map<String, Long> allocatedByType = new HashMap<>();
+        private int gcCount;
+        private Duration gcPause = Duration.ZERO;
+        private int screenshots;
+        private long screenshotBytes;
+        private int launches;
+        private Duration launchTime = Duration.ZERO;
+    }
+}
@@ -0,0 +1,19 @@
+package com.playwright.java.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Screenshot capture; the PNG byte array is the largest single allocation the framework makes.
+@Name("com.playwright.java.Screenshot")
+@Label("Screenshot")
+@Category({"Playwright Tests"})
+public class ScreenshotEvent extends jdk.jfr.Event {
+    @Label("Purpose")
+    public String purpose;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+}
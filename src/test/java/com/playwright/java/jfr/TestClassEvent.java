@@ -0,0 +1,17 @@
+package com.playwright.java.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Spans a test class from @BeforeAll to @AfterAll on its worker thread; used to attribute
+// allocation samples and GC pauses to the class.
+@Name("com.playwright.java.TestClass")
+@Label("Test Class")
+@Category({"Playwright Tests"})
+@Description("Lifecycle of one test class, from suite setup to suite teardown")
+public class TestClassEvent extends jdk.jfr.Event {
+    @Label("Test Class")
+    public String testClass;
+}
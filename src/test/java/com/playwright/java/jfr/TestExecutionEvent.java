@@ -0,0 +1,25 @@
+package com.playwright.java.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// One test invocation, from the start of setup to the end of teardown.
+@Name("com.playwright.java.TestExecution")
+@Label("Test Execution")
+@Category({"Playwright Tests"})
+@Description("One test invocation including setup and teardown")
+public class TestExecutionEvent extends jdk.jfr.Event {
+    @Label("Test Class")
+    public String testClass;
+
+    @Label("Test")
+    public String test;
+
+    @Label("Engine")
+    public String engine;
+
+    @Label("Failed")
+    public boolean failed;
+}
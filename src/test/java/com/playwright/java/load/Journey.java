@@ -0,0 +1,44 @@
+package com.playwright.java.load;
+
+import java.util.List;
+import java.util.Random;
+
+// Weighted user journeys. Each one starts on the login page and ends logged out with an empty cart,
+// so a virtual user can chain journeys without extra cleanup.
+public enum Journey {
+    BROWSE(3, List.of(JourneyStep.LOGIN, JourneyStep.SORT, JourneyStep.LOGOUT)),
+    PURCHASE(2, List.of(JourneyStep.LOGIN, JourneyStep.ADD_TO_CART, JourneyStep.OPEN_CART, JourneyStep.RESET_CART, JourneyStep.LOGOUT));
+
+    private static final int TOTAL_WEIGHT = totalWeight();
+
+    private final int weight;
+    private final List<JourneyStep> steps;
+
+    Journey(int weight, List<JourneyStep> steps) {
+        this.weight = weight;
+        this.steps = steps;
+    }
+
+    public List<JourneyStep> steps() {
+        return steps;
+    }
+
+    public static Journey pick(Random random) {
+        int ticket = random.nextInt(TOTAL_WEIGHT);
+        for (Journey journey : values()) {
+            ticket -= journey.weight;
+            if (ticket < 0) {
+                return journey;
+            }
+        }
+        return BROWSE;
+    }
+
+    private static int totalWeight() {
+        int total = 0;
+        for (Journey journey : values()) {
+            total += journey.weight;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,11 @@
+package com.playwright.java.load;
+
+// Steps a virtual user can perform; each one is timed and counted separately.
+public enum JourneyStep {
+    LOGIN,
+    SORT,
+    ADD_TO_CART,
+    OPEN_CART,
+    RESET_CART,
+    LOGOUT
+}
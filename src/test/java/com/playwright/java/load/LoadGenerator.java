@@ -0,0 +1,141 @@
+package com.playwright.java.load;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+import com.playwright.java.base.LaunchProfiles;
+import com.playwright.java.config.TestConfig;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Drives loadUsers virtual users over loadBrowsers browsers for loadDurationSeconds.
+// Users start evenly spread over the ramp-up window and are assigned to browsers round-robin.
+// Each browser has its own worker thread and Playwright instance (the sync API is thread-bound),
+// so a worker interleaves its users one step at a time: all contexts stay open concurrently,
+// while actions are serialized per browser.
+public final class LoadGenerator {
+    private final TestConfig config;
+    private final String baseUrl;
+    private final String engine;
+    private final LoadStats stats = new LoadStats();
+
+    public LoadGenerator(TestConfig config, String baseUrl, String engine) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.engine = engine;
+    }
+
+    // Runs the whole schedule, writes target/reports/load-report.txt and returns the report text.
+    public String run() {
+        int users = config.loadUsers();
+        int browsers = Math.min(config.loadBrowsers(), users);
+        long startNanos = System.nanoTime();
+        long rampUpNanos = TimeUnit.SECONDS.toNanos(config.loadRampUpSeconds());
+        long deadlineNanos = startNanos + rampUpNanos + TimeUnit.SECONDS.toNanos(config.loadDurationSeconds());
+
+        List<List<Long>> startTimesByWorker = new ArrayList<>();
+        for (int worker = 0; worker < browsers; worker++) {
+            startTimesByWorker.add(new ArrayList<>());
+        }
+        for (int user = 0; user < users; user++) {
+            startTimesByWorker.get(user % browsers).add(startNanos + rampUpNanos * user / users);
+        }
+
+        List<Thread> workers = new ArrayList<>();
+        List<RuntimeException> workerFailures = new ArrayList<>();
+        for (int worker = 0; worker < browsers; worker++) {
+            List<Long> startTimes = startTimesByWorker.get(worker);
+            int firstUserId = worker;
+            Thread thread = new Thread(() -> {
+                try {
+                    runWorker(firstUserId, browsers, startTimes, deadlineNanos);
+                } catch (RuntimeException exception) {
+                    synchronized (workerFailures) {
+                        workerFailures.add(exception);
+                    }
+                }
+            }, "load-worker-" + (worker + 1));
+            workers.add(thread);
+            thread.start();
+        }
+
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for load workers", exception);
+            }
+        }
+        if (!workerFailures.isEmpty()) {
+            throw new IllegalStateException("Load worker failed: " + workerFailures.get(0).getMessage(), workerFailures.get(0));
+        }
+
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        String report = "engine=" + engine + ", " + stats.report(users, browsers, elapsedSeconds);
+        writeReport(report);
+        return report;
+    }
+
+    public LoadStats stats() {
+        return stats;
+    }
+
+    private void runWorker(int firstUserId, int userIdStep, List<Long> startTimes, long deadlineNanos) {
+        try (Playwright playwright = LaunchProfiles.createPlaywright(config)) {
+            Browser browser = LaunchProfiles.launch(playwright, config, engine);
+            List<VirtualUser> users = new ArrayList<>();
+            for (int index = 0; index < startTimes.size(); index++) {
+                users.add(new VirtualUser(firstUserId + index * userIdStep, browser, config, baseUrl, startTimes.get(index)));
+            }
+
+            try {
+                while (System.nanoTime() < deadlineNanos) {
+                    boolean ranStep = false;
+                    for (VirtualUser user : users) {
+                        if (System.nanoTime() >= deadlineNanos) {
+                            break;
+                        }
+                        if (user.isStarted(System.nanoTime())) {
+                            user.runNextStep(stats);
+                            ranStep = true;
+                        }
+                    }
+                    if (!ranStep) {
+                        sleepUntil(Math.min(users.get(0).startAtNanos(), deadlineNanos));
+                    }
+                }
+            } finally {
+                users.forEach(VirtualUser::close);
+                browser.close();
+            }
+        }
+    }
+
+    private static void sleepUntil(long targetNanos) {
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(targetNanos - System.nanoTime());
+        if (remainingMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(remainingMs);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load worker interrupted", exception);
+        }
+    }
+
+    private static void writeReport(String report) {
+        try {
+            Path reportsDir = Path.of("target", "reports");
+            Files.createDirectories(reportsDir);
+            Files.writeString(reportsDir.resolve("load-report.txt"), report, StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            System.err.println("Failed to write load report: " + exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.playwright.java.load;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Latency samples and error counts per journey step, shared by all load workers.
+public final class LoadStats {
+    private final Map<JourneyStep, StepSamples> samples = new EnumMap<>(JourneyStep.class);
+    private long completedJourneys;
+    private long failedJourneys;
+
+    public LoadStats() {
+        for (JourneyStep step : JourneyStep.values()) {
+            samples.put(step, new StepSamples());
+        }
+    }
+
+    public synchronized void recordStep(JourneyStep step, long latencyNanos, boolean failed) {
+        samples.get(step).add(latencyNanos, failed);
+    }
+
+    public synchronized void recordJourney(boolean failed) {
+        if (failed) {
+            failedJourneys++;
+        } else {
+            completedJourneys++;
+        }
+    }
+
+    public synchronized long completedJourneys() {
+        return completedJourneys;
+    }
+
+    public synchronized long totalErrors() {
+        long errors = 0;
+        for (StepSamples stepSamples : samples.values()) {
+            errors += stepSamples.errors;
+        }
+        return errors;
+    }
+
+    // Throughput over the measured window, error rate and latency percentiles (nearest rank) per step.
+    // Concurrency is bounded by the browsers (one worker thread each), not by the users; the header says so.
+    public synchronized String report(int users, int browsers, double elapsedSeconds) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("concurrency: at most %d steps in flight (one worker per browser); the %d users take turns,"
+                + " so throughput and latency describe %d concurrent actors, not %d%n", browsers, users, browsers, users));
+        report.append(String.format("users=%d, browsers=%d, elapsed=%.1f s, journeys=%d completed / %d failed, journeys/s=%.2f%n",
+                users, browsers, elapsedSeconds, completedJourneys, failedJourneys, completedJourneys / elapsedSeconds));
+        report.append(String.format("%-12s %7s %7s %8s %8s %8s %8s %8s %8s %8s%n",
+                "step", "count", "errors", "error %", "per s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms"));
+
+        for (Map.Entry<JourneyStep, StepSamples> entry : samples.entrySet()) {
+            StepSamples stepSamples = entry.getValue();
+            if (stepSamples.count == 0) {
+                continue;
+            }
+            long[] sorted = Arrays.copyOf(stepSamples.latencies, stepSamples.count);
+            Arrays.sort(sorted);
+            report.append(String.format("%-12s %7d %7d %8.2f %8.2f %8d %8d %8d %8d %8d%n",
+                    entry.getKey(),
+                    stepSamples.count,
+                    stepSamples.errors,
+                    stepSamples.errors * 100.0 / stepSamples.count,
+                    stepSamples.count / elapsedSeconds,
+                    percentileMs(sorted, 50),
+                    percentileMs(sorted, 90),
+                    percentileMs(sorted, 95),
+                    percentileMs(sorted, 99),
+                    sorted[sorted.length - 1] / 1_000_000));
+        }
+        return report.toString();
+    }
+
+    private static long percentileMs(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000;
+    }
+
+    // Growable primitive array: no boxing for thousands of samples.
+    private static final class StepSamples {
+        private long[] latencies = new long[256];
+        private int count;
+        private long errors;
+
+        private void add(long latencyNanos, boolean failed) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (failed) {
+                errors++;
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.playwright.java.load;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.playwright.java.base.RunMetrics;
+import com.playwright.java.config.TestConfig;
+import com.playwright.java.config.TestData;
+import com.playwright.java.pages.HomePage;
+import com.playwright.java.pages.LoginPage;
+import java.util.Random;
+
+// One simulated shopper: its own context (cookies, localStorage) driven through the regular page objects.
+// Steps run one at a time so a worker thread can interleave several users on the same browser.
+final class VirtualUser {
+    private final int id;
+    private final Browser browser;
+    private final TestConfig config;
+    private final String baseUrl;
+    private final long startAtNanos;
+    private final Random random;
+
+    private BrowserContext context;
+    private Page page;
+    private LoginPage loginPage;
+    private HomePage homePage;
+    private Journey journey;
+    private int stepIndex;
+
+    VirtualUser(int id, Browser browser, TestConfig config, String baseUrl, long startAtNanos) {
+        this.id = id;
+        this.browser = browser;
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.startAtNanos = startAtNanos;
+        this.random = new Random(id);
+    }
+
+    boolean isStarted(long nowNanos) {
+        return nowNanos >= startAtNanos;
+    }
+
+    long startAtNanos() {
+        return startAtNanos;
+    }
+
+    // Runs the next step of the current journey, starting a new journey when the previous one ended.
+    void runNextStep(LoadStats stats) {
+        if (context == null) {
+            openContext();
+        }
+        if (journey == null) {
+            journey = Journey.pick(random);
+            stepIndex = 0;
+        }
+
+        JourneyStep step = journey.steps().get(stepIndex);
+        long start = System.nanoTime();
+        try {
+            perform(step);
+            stats.recordStep(step, System.nanoTime() - start, false);
+        } catch (RuntimeException exception) {
+            stats.recordStep(step, System.nanoTime() - start, true);
+            stats.recordJourney(true);
+            System.err.println("Virtual user " + id + " failed " + step + " in " + journey + ": " + exception.getMessage());
+            // The page may be in any state: restart from a fresh context.
+            close();
+            journey = null;
+            return;
+        }
+
+        stepIndex++;
+        if (stepIndex == journey.steps().size()) {
+            stats.recordJourney(false);
+            journey = null;
+        }
+    }
+
+    void close() {
+        if (context == null) {
+            return;
+        }
+        try {
+            context.close();
+        } catch (RuntimeException exception) {
+            System.err.println("Failed to close context of virtual user " + id + ": " + exception.getMessage());
+        }
+        context = null;
+    }
+
+    private void openContext() {
+        context = browser.newContext(new Browser.NewContextOptions()
+                .setViewportSize(config.viewportWidth(), config.viewportHeight()));
+        RunMetrics.get().contextCreated(context);
+        page = context.newPage();
+        page.setDefaultTimeout(config.defaultTimeoutMs());
+        page.setDefaultNavigationTimeout(config.navigationTimeoutMs());
+        loginPage = new LoginPage(page);
+        homePage = new HomePage(page);
+    }
+
+    private void perform(JourneyStep step) {
+        TestData testData = TestData.get();
+        switch (step) {
+            case LOGIN:
+                loginPage.open(baseUrl);
+                loginPage.loginWithStandardUser();
+                page.waitForURL("**" + testData.route("inventory"));
+                check(homePage.isLoaded(), step, "inventory page not loaded");
+                break;
+            case SORT:
+                homePage.sortByPriceAscending();
+                check(homePage.checkPricesSorted(true).isSorted(), step, "prices not sorted ascending");
+                break;
+            case ADD_TO_CART:
+                homePage.addBackpackToCart();
+                check(homePage.hasCartBadgeCount(1), step, "cart badge does not show 1 item");
+                break;
+            case OPEN_CART:
+                homePage.openCart();
+                check(homePage.isCartPageLoaded(), step, "cart page not loaded");
+                break;
+            case RESET_CART:
+                homePage.resetAppState();
+                check(homePage.hasCartBadgeCount(0), step, "cart badge still shown after reset");
+                break;
+            case LOGOUT:
+                homePage.logout();
+                page.waitForURL(baseUrl);
+                check(loginPage.isLoaded(), step, "login page not shown after logout");
+                break;
+            default:
+                throw new IllegalStateException("Unsupported journey step: " + step);
+        }
+    }
+
+    private static void check(boolean condition, JourneyStep step, String message) {
+        if (!condition) {
+            throw new IllegalStateException(step + " check failed: " + message);
+        }
+    }
+}
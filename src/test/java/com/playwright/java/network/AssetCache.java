@@ -0,0 +1,133 @@
+package com.playwright.java.network;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Route;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Common part of the static asset caches plugged into each context with context.route(...):
+// the asset glob, which response headers may be replayed, the size-bounded index with
+// least recently used eviction, and the hit/miss counters reported in phase-timings.txt.
+// Subclasses decide where bodies live (DiskAssetCache, MemoryAssetCache) and how requests are served.
+public abstract class AssetCache<E extends AssetCache.Entry> {
+    public static final String ASSET_PATTERN = "**/*.{js,css,png,jpg,jpeg,svg,woff,woff2}";
+
+    // Headers that must not be replayed from a cached body.
+    private static final Set<String> DROPPED_HEADERS = Set.of(
+            "content-encoding", "content-length", "transfer-encoding", "set-cookie", "connection");
+
+    protected final Map<String, E> entries = new ConcurrentHashMap<>();
+    protected final LongAdder hits = new LongAdder();
+    protected final LongAdder misses = new LongAdder();
+    protected final LongAdder bytesServed = new LongAdder();
+
+    private final String name;
+    private final long maxBytes;
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final LongAdder evictions = new LongAdder();
+
+    protected AssetCache(String name, long maxBytes) {
+        this.name = name;
+        this.maxBytes = maxBytes;
+    }
+
+    public void install(BrowserContext context) {
+        context.route(ASSET_PATTERN, this::handle);
+    }
+
+    abstract void handle(Route route);
+
+    public String summary() {
+        long total = hits.sum() + misses.sum();
+        return name + ": hits=" + hits.sum()
+                + hitDetails()
+                + ", misses=" + misses.sum()
+                + ", hitRate=" + (total == 0 ? 0 : hits.sum() * 100 / total) + "%"
+                + ", bytesServed=" + bytesServed.sum()
+                + ", entries=" + entries.size()
+                + ", sizeBytes=" + totalBytes.get()
+                + ", evictions=" + evictions.sum();
+    }
+
+    // Extra hit breakdown appended after the hit count, e.g. " (revalidated=3)".
+    protected String hitDetails() {
+        return "";
+    }
+
+    protected long maxBytes() {
+        return maxBytes;
+    }
+
+    // Adds (or replaces) an entry and evicts above the cap; index and size change under one lock.
+    // With keepExisting, an entry another worker already stored for the URL wins.
+    protected synchronized void put(String url, E entry, boolean keepExisting) {
+        E previous = keepExisting ? entries.putIfAbsent(url, entry) : entries.put(url, entry);
+        if (keepExisting && previous != null) {
+            return;
+        }
+        totalBytes.addAndGet(entry.size() - (previous == null ? 0 : previous.size()));
+        evictIfNeeded();
+    }
+
+    protected synchronized void forget(String url, E entry) {
+        if (entries.remove(url, entry)) {
+            totalBytes.addAndGet(-entry.size());
+        }
+    }
+
+    private void evictIfNeeded() {
+        if (totalBytes.get() <= maxBytes) {
+            return;
+        }
+
+        List<Map.Entry<String, E>> byLastAccess = new ArrayList<>(entries.entrySet());
+        byLastAccess.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccess));
+        for (Map.Entry<String, E> oldest : byLastAccess) {
+            if (totalBytes.get() <= maxBytes) {
+                break;
+            }
+            if (entries.remove(oldest.getKey(), oldest.getValue())) {
+                totalBytes.addAndGet(-oldest.getValue().size());
+                evictions.increment();
+                evicted(oldest.getKey(), oldest.getValue());
+            }
+        }
+    }
+
+    // Called under the lock for every evicted entry, e.g. to delete its files.
+    protected void evicted(String url, E entry) {
+    }
+
+    protected static Map<String, String> replayableHeaders(Map<String, String> responseHeaders) {
+        Map<String, String> headers = new HashMap<>();
+        responseHeaders.forEach((headerName, value) -> {
+            if (!DROPPED_HEADERS.contains(headerName.toLowerCase(Locale.ROOT))) {
+                headers.put(headerName, value);
+            }
+        });
+        return headers;
+    }
+
+    public abstract static class Entry {
+        private final long size;
+        // Larger is more recent; the unit is up to the subclass (wall clock or a counter).
+        volatile long lastAccess;
+
+        protected Entry(long size, long lastAccess) {
+            this.size = size;
+            this.lastAccess = lastAccess;
+        }
+
+        protected long size() {
+            return size;
+        }
+    }
+}
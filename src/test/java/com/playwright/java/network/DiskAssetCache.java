@@ -0,0 +1,252 @@
+package com.playwright.java.network;
+
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Shared on-disk HTTP cache for static assets, plugged into each context with context.route(...).
+// A fresh context starts with an empty browser cache; this cache survives contexts, classes and runs.
+// Entries are keyed by URL and revalidated with their ETag (If-None-Match -> 304 served from disk).
+// Entries without an ETag are served directly until they are older than the max age, then fetched again.
+// Least recently used entries are evicted when the directory grows past the size cap (see AssetCache).
+// A body file deleted behind the cache's back is forgotten and the request goes to the network.
+// Only response bodies and headers are shared: cookies and storage stay isolated per context.
+public final class DiskAssetCache extends AssetCache<DiskAssetCache.Entry> {
+    private static final Map<Path, DiskAssetCache> INSTANCES = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final long maxAgeMs;
+    private final LongAdder revalidatedHits = new LongAdder();
+
+    private DiskAssetCache(Path directory, long maxBytes, long maxAgeMs) {
+        super("disk asset cache", maxBytes);
+        this.directory = directory;
+        this.maxAgeMs = maxAgeMs;
+        loadIndex();
+    }
+
+    // One cache per directory per JVM, shared by every test class and worker thread.
+    public static DiskAssetCache open(Path directory, long maxBytes, long maxAgeMs) {
+        return INSTANCES.computeIfAbsent(directory.toAbsolutePath().normalize(), key -> new DiskAssetCache(key, maxBytes, maxAgeMs));
+    }
+
+    public void writeSummary() {
+        try {
+            Path reportsDir = Path.of("target", "reports");
+            Files.createDirectories(reportsDir);
+            Files.writeString(reportsDir.resolve("asset-cache.txt"), summary() + System.lineSeparator(), StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            System.err.println("Failed to write asset cache summary: " + exception.getMessage());
+        }
+    }
+
+    @Override
+    protected String hitDetails() {
+        return " (revalidated=" + revalidatedHits.sum() + ")";
+    }
+
+    @Override
+    void handle(Route route) {
+        Request request = route.request();
+        if (!"GET".equals(request.method())) {
+            route.fallback();
+            return;
+        }
+
+        String url = request.url();
+        Entry cached = entries.get(url);
+        if (cached != null && !Files.isRegularFile(cached.bodyFile)) {
+            forget(url, cached);
+            route.fallback();
+            return;
+        }
+        if (cached != null && cached.etag == null) {
+            if (System.currentTimeMillis() - cached.storedAt <= maxAgeMs) {
+                // No validator: serve directly while the entry is fresh.
+                serve(route, url, cached, false);
+                return;
+            }
+            // Stale and nothing to revalidate with: fetch it again like a miss.
+            cached = null;
+        }
+
+        Map<String, String> headers = new HashMap<>(request.headers());
+        if (cached != null) {
+            headers.put("if-none-match", cached.etag);
+        }
+
+        APIResponse response = route.fetch(new Route.FetchOptions().setHeaders(headers));
+        try {
+            if (response.status() == 304 && cached != null && Files.isRegularFile(cached.bodyFile)) {
+                serve(route, url, cached, true);
+                return;
+            }
+
+            misses.increment();
+            if (response.status() == 200) {
+                store(url, response);
+            }
+            route.fulfill(new Route.FulfillOptions().setResponse(response));
+        } finally {
+            response.dispose();
+        }
+    }
+
+    private void serve(Route route, String url, Entry entry, boolean revalidated) {
+        entry.lastAccess = System.currentTimeMillis();
+        try {
+            // Keeps LRU order across runs, since the index is rebuilt from body file timestamps.
+            Files.setLastModifiedTime(entry.bodyFile, FileTime.fromMillis(entry.lastAccess));
+        } catch (IOException exception) {
+            System.err.println("Failed to touch cached asset " + entry.bodyFile + ": " + exception.getMessage());
+        }
+        try {
+            route.fulfill(new Route.FulfillOptions()
+                    .setStatus(200)
+                    .setHeaders(entry.headers)
+                    .setPath(entry.bodyFile));
+        } catch (PlaywrightException exception) {
+            if (Files.isRegularFile(entry.bodyFile)) {
+                throw exception;
+            }
+            // Evicted by another thread (or deleted) after the existence check: never fail the test for it.
+            System.err.println("Cached asset " + entry.bodyFile + " is gone, fetching from network: " + exception.getMessage());
+            forget(url, entry);
+            route.fallback();
+            return;
+        }
+        hits.increment();
+        if (revalidated) {
+            revalidatedHits.increment();
+        }
+        bytesServed.add(entry.size());
+    }
+
+    private void store(String url, APIResponse response) {
+        String key = sha256(url);
+        Path bodyFile = directory.resolve(key + ".body");
+        Path metaFile = directory.resolve(key + ".meta");
+
+        Map<String, String> headers = replayableHeaders(response.headers());
+        String etag = response.headers().get("etag");
+
+        try {
+            Files.createDirectories(directory);
+            byte[] body = response.body();
+
+            Path bodyTemp = Files.createTempFile(directory, key, ".tmp");
+            Files.write(bodyTemp, body);
+            Files.move(bodyTemp, bodyFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            Properties meta = new Properties();
+            meta.setProperty("url", url);
+            if (etag != null) {
+                meta.setProperty("etag", etag);
+            }
+            headers.forEach((name, value) -> meta.setProperty("header." + name, value));
+            Path metaTemp = Files.createTempFile(directory, key, ".tmp");
+            try (OutputStream output = Files.newOutputStream(metaTemp)) {
+                meta.store(output, null);
+            }
+            Files.move(metaTemp, metaFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            long now = System.currentTimeMillis();
+            put(url, new Entry(etag, headers, bodyFile, metaFile, body.length, now, now), false);
+        } catch (IOException exception) {
+            System.err.println("Failed to store asset in disk cache " + url + ": " + exception.getMessage());
+        }
+    }
+
+    @Override
+    protected void evicted(String url, Entry entry) {
+        try {
+            Files.deleteIfExists(entry.bodyFile);
+            Files.deleteIfExists(entry.metaFile);
+        } catch (IOException exception) {
+            System.err.println("Failed to evict cached asset " + url + ": " + exception.getMessage());
+        }
+    }
+
+    // Rebuilds the index from a previous run; last access comes from the body file timestamp
+    // and the storage time from the metadata file, which is only written by store().
+    private void loadIndex() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> metaFiles = Files.newDirectoryStream(directory, "*.meta")) {
+            for (Path metaFile : metaFiles) {
+                String fileName = metaFile.getFileName().toString();
+                Path bodyFile = directory.resolve(fileName.substring(0, fileName.length() - ".meta".length()) + ".body");
+                if (!Files.isRegularFile(bodyFile)) {
+                    continue;
+                }
+
+                Properties meta = new Properties();
+                try (InputStream input = Files.newInputStream(metaFile)) {
+                    meta.load(input);
+                }
+
+                Map<String, String> headers = new HashMap<>();
+                for (String name : meta.stringPropertyNames()) {
+                    if (name.startsWith("header.")) {
+                        headers.put(name.substring("header.".length()), meta.getProperty(name));
+                    }
+                }
+
+                long size = Files.size(bodyFile);
+                FileTime lastModified = Files.getLastModifiedTime(bodyFile);
+                FileTime storedAt = Files.getLastModifiedTime(metaFile);
+                put(meta.getProperty("url"), new Entry(meta.getProperty("etag"), headers, bodyFile, metaFile,
+                        size, storedAt.toMillis(), lastModified.toMillis()), false);
+            }
+        } catch (IOException exception) {
+            System.err.println("Ignoring unreadable disk asset cache " + directory + ": " + exception.getMessage());
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return String.format("%064x", new BigInteger(1, digest));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", exception);
+        }
+    }
+
+    static final class Entry extends AssetCache.Entry {
+        private final String etag;
+        private final Map<String, String> headers;
+        private final Path bodyFile;
+        private final Path metaFile;
+        private final long storedAt;
+
+        private Entry(String etag, Map<String, String> headers, Path bodyFile, Path metaFile, long size,
+                long storedAt, long lastAccess) {
+            super(size, lastAccess);
+            this.etag = etag;
+            this.headers = headers;
+            this.bodyFile = bodyFile;
+            this.metaFile = metaFile;
+            this.storedAt = storedAt;
+        }
+    }
+}
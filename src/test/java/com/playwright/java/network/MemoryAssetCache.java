@@ -0,0 +1,93 @@
+package com.playwright.java.network;
+
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// In-JVM static asset cache shared by every context of the run, plugged in with context.route(...).
+// The first context to request an asset fills the cache through route.fetch(); later contexts
+// (hundreds per run, one per test) are fulfilled from memory without touching the network.
+// Assets are assumed immutable for the duration of a run (SauceDemo bundles are content-hashed).
+// Size is bounded: least recently used entries are evicted above the cap (see AssetCache).
+public final class MemoryAssetCache extends AssetCache<MemoryAssetCache.Entry> {
+    private static volatile MemoryAssetCache shared;
+
+    private final AtomicLong accessClock = new AtomicLong();
+
+    private MemoryAssetCache(long maxBytes) {
+        super("memory asset cache", maxBytes);
+    }
+
+    // One cache per JVM; the size cap of the first caller wins.
+    public static MemoryAssetCache shared(long maxBytes) {
+        MemoryAssetCache cache = shared;
+        if (cache == null) {
+            synchronized (MemoryAssetCache.class) {
+                cache = shared;
+                if (cache == null) {
+                    cache = new MemoryAssetCache(maxBytes);
+                    shared = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    @Override
+    void handle(Route route) {
+        Request request = route.request();
+        if (!"GET".equals(request.method())) {
+            route.fallback();
+            return;
+        }
+
+        String url = request.url();
+        Entry cached = entries.get(url);
+        if (cached != null) {
+            cached.lastAccess = accessClock.incrementAndGet();
+            hits.increment();
+            bytesServed.add(cached.body.length);
+            route.fulfill(new Route.FulfillOptions()
+                    .setStatus(cached.status)
+                    .setHeaders(cached.headers)
+                    .setBodyBytes(cached.body));
+            return;
+        }
+
+        misses.increment();
+        APIResponse response = route.fetch();
+        try {
+            if (response.status() == 200) {
+                store(url, response);
+            }
+            route.fulfill(new Route.FulfillOptions().setResponse(response));
+        } finally {
+            response.dispose();
+        }
+    }
+
+    private void store(String url, APIResponse response) {
+        byte[] body = response.body();
+        if (body.length > maxBytes()) {
+            return;
+        }
+
+        // Another worker may have filled the same URL meanwhile: keep the first copy.
+        put(url, new Entry(response.status(), replayableHeaders(response.headers()), body, accessClock.incrementAndGet()), true);
+    }
+
+    static final class Entry extends AssetCache.Entry {
+        private final int status;
+        private final Map<String, String> headers;
+        private final byte[] body;
+
+        private Entry(int status, Map<String, String> headers, byte[] body, long lastAccess) {
+            super(body.length, lastAccess);
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.playwright.java.network;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+import com.playwright.java.config.TestConfig;
+import com.playwright.java.config.TestConfig.NetworkProfile;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Applies the configured network profile and CPU throttling to a page, so timings such as the
+// performance_glitch_user login are measured under the same conditions on every run.
+// Chromium: CDP Network.emulateNetworkConditions (latency and throughput) and Emulation.setCPUThrottlingRate.
+// Firefox/WebKit have no CDP and no equivalent: a network profile is refused there, because a delay added
+// in a route handler blocks the test thread and serializes requests instead of emulating latency.
+// CPU throttling is skipped on those engines with a warning.
+public final class NetworkConditions {
+    private static final AtomicBoolean CPU_THROTTLING_WARNED = new AtomicBoolean(false);
+
+    private final NetworkProfile profile;
+    private final int cpuThrottlingRate;
+    private final int latencyMs;
+    private final long downloadBytesPerSecond;
+    private final long uploadBytesPerSecond;
+
+    public NetworkConditions(TestConfig config) {
+        this.profile = config.networkProfile();
+        this.cpuThrottlingRate = config.cpuThrottlingRate();
+        // Same presets as the Chrome DevTools throttling menu.
+        switch (profile) {
+            case LAN:
+                this.latencyMs = 2;
+                this.downloadBytesPerSecond = 12_500_000L;
+                this.uploadBytesPerSecond = 12_500_000L;
+                break;
+            case FAST3G:
+                this.latencyMs = 563;
+                this.downloadBytesPerSecond = 180_000L;
+                this.uploadBytesPerSecond = 84_375L;
+                break;
+            case SLOW3G:
+                this.latencyMs = 2_000;
+                this.downloadBytesPerSecond = 50_000L;
+                this.uploadBytesPerSecond = 50_000L;
+                break;
+            default:
+                this.latencyMs = 0;
+                this.downloadBytesPerSecond = -1L;
+                this.uploadBytesPerSecond = -1L;
+                break;
+        }
+    }
+
+    public boolean isActive() {
+        return profile != NetworkProfile.OFF || cpuThrottlingRate > 1;
+    }
+
+    // Call right after the page is created, before the first navigation.
+    public void apply(BrowserContext context, Page page, String engine) {
+        if (!isActive()) {
+            return;
+        }
+
+        if ("chromium".equals(engine)) {
+            CDPSession session = context.newCDPSession(page);
+            if (profile != NetworkProfile.OFF) {
+                JsonObject conditions = new JsonObject();
+                conditions.addProperty("offline", false);
+                conditions.addProperty("latency", latencyMs);
+                conditions.addProperty("downloadThroughput", downloadBytesPerSecond);
+                conditions.addProperty("uploadThroughput", uploadBytesPerSecond);
+                session.send("Network.enable");
+                session.send("Network.emulateNetworkConditions", conditions);
+            }
+            if (cpuThrottlingRate > 1) {
+                JsonObject throttling = new JsonObject();
+                throttling.addProperty("rate", cpuThrottlingRate);
+                session.send("Emulation.setCPUThrottlingRate", throttling);
+            }
+            return;
+        }
+
+        if (profile != NetworkProfile.OFF) {
+            throw new IllegalStateException("networkProfile=" + profile.name().toLowerCase()
+                    + " is only supported on chromium; run it with -Dbrowsers=chromium instead of " + engine);
+        }
+        if (cpuThrottlingRate > 1 && CPU_THROTTLING_WARNED.compareAndSet(false, true)) {
+            System.err.println("cpuThrottlingRate is only supported on chromium; ignored for " + engine);
+        }
+    }
+
+    public String describe(String engine) {
+        if (!isActive()) {
+            return "Network profile: off, CPU throttling: off";
+        }
+        return "Network profile: " + profile.name().toLowerCase()
+                + (profile == NetworkProfile.OFF ? "" : " (latency " + latencyMs + " ms"
+                        + ", down " + downloadBytesPerSecond + " B/s, up " + uploadBytesPerSecond + " B/s, CDP)")
+                + ", CPU throttling: "
+                + (cpuThrottlingRate > 1 ? cpuThrottlingRate + "x" + ("chromium".equals(engine) ? "" : " (unsupported on " + engine + ")") : "off");
+    }
+}
@@ -0,0 +1,337 @@
+package com.playwright.java.network;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Local stand-in for SauceDemo served by the JDK HttpServer on a random loopback port.
+// Pages use the same routes and data-test attributes as the real site (login, inventory,
+// cart, burger menu, cart badge), so the page objects run against it unchanged.
+// /inventory.html serves the six real products; /inventory.html?items=N serves a generated catalog.
+// Cart state lives in localStorage["cart-contents"], the session in the session-username cookie.
+public final class SauceDemoStandIn implements AutoCloseable {
+    public static final String TITLE = "Products";
+
+    private static final long CATALOG_SEED = 42L;
+    private static final String PASSWORD = "secret_sauce";
+    private static final String[] ACCEPTED_USERS = {
+        "standard_user", "problem_user", "performance_glitch_user", "error_user", "visual_user"
+    };
+
+    private static final Catalog SAUCEDEMO_CATALOG = new Catalog(
+            new int[] {4, 0, 1, 5, 2, 3},
+            new String[] {
+                "sauce-labs-backpack", "sauce-labs-bike-light", "sauce-labs-bolt-t-shirt",
+                "sauce-labs-fleece-jacket", "sauce-labs-onesie", "test.allthethings()-t-shirt-(red)"
+            },
+            new String[] {
+                "Sauce Labs Backpack", "Sauce Labs Bike Light", "Sauce Labs Bolt T-Shirt",
+                "Sauce Labs Fleece Jacket", "Sauce Labs Onesie", "Test.allTheThings() T-Shirt (Red)"
+            },
+            new int[] {2999, 999, 1599, 4999, 799, 1599});
+
+    // Header, burger menu and cart badge shared by the inventory and cart pages.
+    private static final String HEADER_HTML = "<div class='primary_header'>"
+            + "<button id='react-burger-menu-btn'>Open Menu</button>"
+            + "<div class='bm-menu-wrap' aria-hidden='true' style='display:none'>"
+            + "<button id='react-burger-cross-btn'>Close Menu</button>"
+            + "<nav><a data-test='inventory-sidebar-link' href='inventory.html'>All Items</a>"
+            + "<a data-test='logout-sidebar-link' href='#'>Logout</a>"
+            + "<a data-test='reset-sidebar-link' href='#'>Reset App State</a></nav></div>"
+            + "<a data-test='shopping-cart-link' href='cart.html'></a>"
+            + "</div>";
+
+    private static final String HEADER_SCRIPT = "const cartKey = 'cart-contents';"
+            + "const readCart = () => JSON.parse(localStorage.getItem(cartKey) || '[]');"
+            + "const writeCart = ids => ids.length ? localStorage.setItem(cartKey, JSON.stringify(ids)) : localStorage.removeItem(cartKey);"
+            + "const cartLink = document.querySelector(\"[data-test='shopping-cart-link']\");"
+            + "const renderBadge = () => {"
+            + "  const count = readCart().length;"
+            + "  cartLink.innerHTML = count ? \"<span data-test='shopping-cart-badge'>\" + count + '</span>' : '';"
+            + "};"
+            + "const menu = document.querySelector('.bm-menu-wrap');"
+            + "const showMenu = visible => { menu.style.display = visible ? 'block' : 'none'; menu.setAttribute('aria-hidden', String(!visible)); };"
+            + "document.querySelector('#react-burger-menu-btn').addEventListener('click', () => showMenu(true));"
+            + "document.querySelector('#react-burger-cross-btn').addEventListener('click', () => showMenu(false));"
+            + "document.querySelector(\"[data-test='logout-sidebar-link']\").addEventListener('click', event => {"
+            + "  event.preventDefault();"
+            + "  document.cookie = 'session-username=; Max-Age=0; path=/';"
+            + "  location.href = './';"
+            + "});"
+            + "document.querySelector(\"[data-test='reset-sidebar-link']\").addEventListener('click', event => {"
+            + "  event.preventDefault();"
+            + "  writeCart([]);"
+            + "  renderBadge();"
+            + "  if (typeof renderButtons === 'function') renderButtons();"
+            + "});"
+            + "renderBadge();";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    // Generated pages are reused across requests of the same size.
+    private final Map<Integer, byte[]> inventoryPages = new ConcurrentHashMap<>();
+    private final byte[] loginPage = loginPage();
+    private final byte[] cartPage = cartPage();
+
+    private SauceDemoStandIn(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    public static SauceDemoStandIn start() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "saucedemo-stand-in");
+                thread.setDaemon(true);
+                return thread;
+            });
+            SauceDemoStandIn standIn = new SauceDemoStandIn(server, executor);
+            server.createContext("/", standIn::serveLogin);
+            server.createContext("/inventory.html", standIn::serveInventory);
+            server.createContext("/cart.html", exchange -> respond(exchange, 200, "text/html; charset=utf-8", standIn.cartPage));
+            server.createContext("/img/", exchange -> respond(exchange, 204, "image/jpeg", new byte[0]));
+            server.setExecutor(executor);
+            server.start();
+            return standIn;
+        } catch (IOException exception) {
+            throw new IllegalStateException("Failed to start SauceDemo stand-in server", exception);
+        }
+    }
+
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    public String inventoryUrl(int items) {
+        return baseUrl() + "inventory.html?items=" + items;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void serveLogin(HttpExchange exchange) throws IOException {
+        if (!"/".equals(exchange.getRequestURI().getPath())) {
+            respond(exchange, 404, "text/plain", "Not found".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        respond(exchange, 200, "text/html; charset=utf-8", loginPage);
+    }
+
+    private void serveInventory(HttpExchange exchange) throws IOException {
+        int items = queryInt(exchange.getRequestURI(), "items", 0);
+        respond(exchange, 200, "text/html; charset=utf-8", inventoryPages.computeIfAbsent(items, SauceDemoStandIn::inventoryPage));
+    }
+
+    private static byte[] loginPage() {
+        StringBuilder users = new StringBuilder();
+        for (String user : ACCEPTED_USERS) {
+            users.append(user).append("<br>");
+        }
+
+        String html = "<!DOCTYPE html><html><head><meta charset='utf-8'><title>Swag Labs</title></head><body>"
+                + "<div class='login_logo'>Swag Labs</div>"
+                + "<div data-test='login-container'><form id='login'>"
+                + "<input data-test='username' placeholder='Username'>"
+                + "<input data-test='password' type='password' placeholder='Password'>"
+                + "<div class='error-message-container'></div>"
+                + "<input data-test='login-button' type='submit' value='Login'>"
+                + "</form></div>"
+                + "<div data-test='login-credentials-container'>"
+                + "<div data-test='login-credentials'>Accepted usernames are:<br>" + users + "</div>"
+                + "<div data-test='login-password'>Password for all users:<br>" + PASSWORD + "</div></div>"
+                + "<script>"
+                + "const accepted = " + jsArray(ACCEPTED_USERS) + ";"
+                + "const showError = message => {"
+                + "  document.querySelector('.error-message-container').innerHTML = \"<h3 data-test='error'>Epic sadface: \" + message + '</h3>';"
+                + "};"
+                + "document.querySelector('#login').addEventListener('submit', event => {"
+                + "  event.preventDefault();"
+                + "  const username = document.querySelector(\"[data-test='username']\").value;"
+                + "  const password = document.querySelector(\"[data-test='password']\").value;"
+                + "  if (!username) return showError('Username is required');"
+                + "  if (!password) return showError('Password is required');"
+                + "  if (username === 'locked_out_user' && password === '" + PASSWORD + "')"
+                + "    return showError('Sorry, this user has been locked out.');"
+                + "  if (!accepted.includes(username) || password !== '" + PASSWORD + "')"
+                + "    return showError('Username and password do not match any user in this service');"
+                + "  document.cookie = 'session-username=' + username + '; path=/';"
+                + "  location.href = 'inventory.html';"
+                + "});"
+                + "</script></body></html>";
+        return html.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] cartPage() {
+        String html = "<!DOCTYPE html><html><head><meta charset='utf-8'><title>Swag Labs</title></head><body>"
+                + HEADER_HTML
+                + "<span data-test='title'>Your Cart</span>"
+                + "<div data-test='cart-list'></div>"
+                + "<script>" + HEADER_SCRIPT
+                + "document.querySelector(\"[data-test='cart-list']\").textContent = readCart().length + ' item(s)';"
+                + "</script></body></html>";
+        return html.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Catalog sorted by name (A to Z) like the real default, with client-side re-sorting
+    // and Add to cart / Remove toggles backed by localStorage.
+    static byte[] inventoryPage(int items) {
+        Catalog catalog = items <= 0 ? SAUCEDEMO_CATALOG : Catalog.generated(items);
+
+        Integer[] order = new Integer[catalog.names.length];
+        for (int index = 0; index < order.length; index++) {
+            order[index] = index;
+        }
+        Arrays.sort(order, (left, right) -> catalog.names[left].compareTo(catalog.names[right]));
+
+        StringBuilder html = new StringBuilder(order.length * 460 + 8_192);
+        html.append("<!DOCTYPE html><html><head><meta charset='utf-8'><title>Swag Labs</title></head><body>")
+                .append(HEADER_HTML)
+                .append("<div class='header_secondary_container'>")
+                .append("<span data-test='title'>").append(TITLE).append("</span>")
+                .append("<span data-test='active-option'>Name (A to Z)</span>")
+                .append("<select data-test='product-sort-container'>")
+                .append("<option value='az'>Name (A to Z)</option>")
+                .append("<option value='za'>Name (Z to A)</option>")
+                .append("<option value='lohi'>Price (low to high)</option>")
+                .append("<option value='hilo'>Price (high to low)</option>")
+                .append("</select></div><div data-test='inventory-list'>");
+        for (int index : order) {
+            String slug = catalog.slugs[index];
+            int cents = catalog.cents[index];
+            html.append("<div data-test='inventory-item' data-price='").append(cents).append("'>")
+                    .append("<a data-test='").append(slug).append("-img-link' href='#'>")
+                    .append("<img data-test='").append(slug).append("-img' loading='lazy' src='img/").append(catalog.ids[index]).append(".jpg'></a>")
+                    .append("<div data-test='inventory-item-name'>").append(catalog.names[index]).append("</div>")
+                    .append("<div data-test='inventory-item-desc'>Stand-in product ").append(catalog.ids[index]).append("</div>")
+                    .append("<div data-test='inventory-item-price'>$").append(cents / 100).append('.')
+                    .append(String.format("%02d", cents % 100)).append("</div>")
+                    .append("<button data-test='add-to-cart-").append(slug).append("' data-id='").append(catalog.ids[index])
+                    .append("' data-slug='").append(slug).append("'>Add to cart</button>")
+                    .append("</div>");
+        }
+        html.append("</div><div data-test='footer'>Stand-in inventory: ").append(order.length).append(" items</div>")
+                .append("<script>").append(HEADER_SCRIPT)
+                .append("const list = document.querySelector(\"[data-test='inventory-list']\");")
+                .append("const select = document.querySelector(\"[data-test='product-sort-container']\");")
+                .append("const name = item => item.querySelector(\"[data-test='inventory-item-name']\").textContent;")
+                .append("const price = item => Number(item.dataset.price);")
+                .append("const comparators = {")
+                .append("az: (a, b) => name(a).localeCompare(name(b), 'en'),")
+                .append("za: (a, b) => name(b).localeCompare(name(a), 'en'),")
+                .append("lohi: (a, b) => price(a) - price(b),")
+                .append("hilo: (a, b) => price(b) - price(a)};")
+                .append("select.addEventListener('change', () => {")
+                .append("const items = Array.from(list.children).sort(comparators[select.value]);")
+                .append("const fragment = document.createDocumentFragment();")
+                .append("for (const item of items) fragment.appendChild(item);")
+                .append("list.appendChild(fragment);")
+                .append("document.querySelector(\"[data-test='active-option']\").textContent = select.selectedOptions[0].textContent;")
+                .append("});")
+                .append("const renderButton = (button, inCart) => {")
+                .append("button.dataset.test = (inCart ? 'remove-' : 'add-to-cart-') + button.dataset.slug;")
+                .append("button.textContent = inCart ? 'Remove' : 'Add to cart';")
+                .append("};")
+                .append("var renderButtons = () => {")
+                .append("const cart = new Set(readCart());")
+                .append("if (cart.size === 0) { for (const button of list.querySelectorAll(\"button[data-test^='remove-']\")) renderButton(button, false); return; }")
+                .append("for (const button of list.querySelectorAll('button[data-id]')) renderButton(button, cart.has(Number(button.dataset.id)));")
+                .append("};")
+                .append("list.addEventListener('click', event => {")
+                .append("const button = event.target.closest('button[data-id]');")
+                .append("if (!button) return;")
+                .append("const id = Number(button.dataset.id);")
+                .append("const cart = readCart();")
+                .append("const inCart = cart.includes(id);")
+                .append("writeCart(inCart ? cart.filter(other => other !== id) : cart.concat(id));")
+                .append("renderButton(button, !inCart);")
+                .append("renderBadge();")
+                .append("});")
+                .append("renderButtons();")
+                .append("</script></body></html>");
+        return html.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String jsArray(String[] values) {
+        StringBuilder array = new StringBuilder("[");
+        for (int index = 0; index < values.length; index++) {
+            array.append(index == 0 ? "'" : ", '").append(values[index]).append('\'');
+        }
+        return array.append(']').toString();
+    }
+
+    private static int queryInt(URI uri, String name, int defaultValue) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return defaultValue;
+        }
+        for (String parameter : query.split("&")) {
+            String[] pair = parameter.split("=", 2);
+            if (pair.length == 2 && name.equals(pair[0])) {
+                try {
+                    return Math.max(0, Integer.parseInt(pair[1]));
+                } catch (NumberFormatException exception) {
+                    return defaultValue;
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private static final class Catalog {
+        private final int[] ids;
+        private final String[] slugs;
+        private final String[] names;
+        private final int[] cents;
+
+        private Catalog(int[] ids, String[] slugs, String[] names, int[] cents) {
+            this.ids = ids;
+            this.slugs = slugs;
+            this.names = names;
+            this.cents = cents;
+        }
+
+        // Names share the "Sauce Item " prefix and differ only in lowercase letters,
+        // so browser localeCompare and a Java Collator agree on their order.
+        private static Catalog generated(int items) {
+            Random random = new Random(CATALOG_SEED);
+            int[] ids = new int[items];
+            String[] slugs = new String[items];
+            String[] names = new String[items];
+            int[] cents = new int[items];
+            for (int index = 0; index < items; index++) {
+                char[] suffix = new char[6];
+                for (int position = 0; position < suffix.length; position++) {
+                    suffix[position] = (char) ('a' + random.nextInt(26));
+                }
+                ids[index] = index;
+                slugs[index] = "item-" + index;
+                names[index] = "Sauce Item " + new String(suffix);
+                cents[index] = 100 + random.nextInt(9_900);
+            }
+            return new Catalog(ids, slugs, names, cents);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.playwright.java.pages;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import java.util.List;
+
+// Add to cart / Remove toggle of one inventory product (e.g. "sauce-labs-backpack").
+// State checks resolve both buttons through one combined locator, so each check is one round trip.
+public class CartButton {
+    private final String addDataTest;
+    private final String removeDataTest;
+
+    private final Locator addButton;
+    private final Locator removeButton;
+    private final Locator readyToAddState;
+    private final Locator addedWithoutAddButtonState;
+
+    public CartButton(Page page, String productSlug) {
+        this.addDataTest = "add-to-cart-" + productSlug;
+        this.removeDataTest = "remove-" + productSlug;
+        String addSelector = "[data-test='" + addDataTest + "']";
+        String removeSelector = "[data-test='" + removeDataTest + "']";
+
+        this.addButton = page.locator(addSelector);
+        this.removeButton = page.locator(removeSelector);
+        // Visible Add plus any Remove: ready to add only when Add is the single match.
+        this.readyToAddState = page.locator(addSelector + ":visible, " + removeSelector);
+        // Visible Remove plus any Add: incorrect default only when Remove is the single match.
+        this.addedWithoutAddButtonState = page.locator(removeSelector + ":visible, " + addSelector);
+    }
+
+    public void add() {
+        addButton.click();
+    }
+
+    public void remove() {
+        removeButton.click();
+    }
+
+    // If Remove button is visible, item is considered added.
+    public boolean isAdded() {
+        return removeButton.isVisible();
+    }
+
+    public boolean isReadyToAdd() {
+        return matchesOnly(readyToAddState, addDataTest);
+    }
+
+    public boolean isRemoveShownWithoutAdd() {
+        return matchesOnly(addedWithoutAddButtonState, removeDataTest);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean matchesOnly(Locator combined, String dataTest) {
+        List<String> matched = (List<String>) combined.evaluateAll("elements => elements.map(element => element.getAttribute('data-test'))");
+        return matched.size() == 1 && dataTest.equals(matched.get(0));
+    }
+}
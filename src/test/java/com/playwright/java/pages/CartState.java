@@ -0,0 +1,24 @@
+package com.playwright.java.pages;
+
+import com.playwright.java.config.TestData;
+import java.util.ArrayList;
+import java.util.List;
+
+// SauceDemo keeps the cart in localStorage["cart-contents"] as a JSON array of product ids
+// and reads it on load. Golden states (see GoldenStates) write it into saved storage state files,
+// so cart preconditions never go through the UI.
+public final class CartState {
+    public static final String STORAGE_KEY = "cart-contents";
+
+    private CartState() {
+    }
+
+    // Value SauceDemo expects in localStorage, e.g. "[4,0]".
+    public static String storageValue(TestData testData, String... productKeys) {
+        List<Integer> ids = new ArrayList<>();
+        for (String productKey : productKeys) {
+            ids.add(testData.productId(productKey));
+        }
+        return ids.toString().replace(" ", "");
+    }
+}
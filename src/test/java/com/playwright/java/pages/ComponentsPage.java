@@ -1,75 +1,66 @@
 package com.playwright.java.pages;
 
 import com.microsoft.playwright.Page;
-import com.playwright.java.config.TestData;
 import io.qameta.allure.Step;
 
 public class ComponentsPage {
-    private final Page page;
-    private final TestData testData;
-
-    private static final String TITLE = "[data-test='title']";
-    private static final String CART_LINK = "[data-test='shopping-cart-link']";
-    private static final String CART_BADGE = "[data-test='shopping-cart-badge']";
-    private static final String OPEN_MENU = "#react-burger-menu-btn";
-    private static final String LOGOUT_SIDEBAR_LINK = "[data-test='logout-sidebar-link']";
-    private static final String RESET_SIDEBAR_LINK = "[data-test='reset-sidebar-link']";
-    private static final String ADD_BACKPACK_BUTTON = "[data-test='add-to-cart-sauce-labs-backpack']";
-    private static final String REMOVE_BACKPACK_BUTTON = "[data-test='remove-sauce-labs-backpack']";
+    private static final String BACKPACK = "sauce-labs-backpack";
+
+    private final HeaderComponent header;
+    private final CartButton backpackButton;
 
     public ComponentsPage(Page page) {
-        this.page = page;
-        this.testData = TestData.get();
+        this(page, new HeaderComponent(page));
+    }
+
+    // Pages of the same tab share one header, so the tracked menu state stays consistent.
+    public ComponentsPage(Page page, HeaderComponent header) {
+        this.header = header;
+        this.backpackButton = new CartButton(page, BACKPACK);
+    }
+
+    public HeaderComponent header() {
+        return header;
     }
 
     @Step("Add Backpack to cart")
     public void addBackpackToCart() {
-        page.locator(ADD_BACKPACK_BUTTON).click();
+        backpackButton.add();
     }
 
     public boolean isBackpackAddedToCart() {
-        return page.locator(REMOVE_BACKPACK_BUTTON).isVisible();
+        return backpackButton.isAdded();
     }
 
     public boolean isBackpackReadyToAdd() {
-        return page.locator(ADD_BACKPACK_BUTTON).isVisible() && page.locator(REMOVE_BACKPACK_BUTTON).count() == 0;
+        return backpackButton.isReadyToAdd();
     }
 
     public int getCartBadgeCount() {
-        if (page.locator(CART_BADGE).count() == 0) {
-            return 0;
-        }
-        return Integer.parseInt(page.locator(CART_BADGE).innerText().trim());
+        return header.getCartBadgeCount();
     }
 
     public boolean hasCartBadgeCount(int expectedCount) {
-        return getCartBadgeCount() == expectedCount;
+        return header.hasCartBadgeCount(expectedCount);
     }
 
-    @Step("Open cart page")
     public void openCart() {
-        page.locator(CART_LINK).click();
+        header.openCart();
     }
 
     public boolean isCartPageLoaded() {
-        return page.url().contains(testData.route("cart"))
-                && testData.expected("cartTitle").equals(page.locator(TITLE).innerText().trim());
+        return header.isCartPageLoaded();
     }
 
-    @Step("Open side menu")
     public void openMenu() {
-        page.locator(OPEN_MENU).click();
+        header.openMenu();
     }
 
-    @Step("Do logout")
     public void logout() {
-        openMenu();
-        page.locator(LOGOUT_SIDEBAR_LINK).click();
+        header.logout();
     }
 
-    @Step("Reset application state")
     public void resetAppState() {
-        openMenu();
-        page.locator(RESET_SIDEBAR_LINK).click();
+        header.resetAppState();
     }
-}
\ No newline at end of file
+}
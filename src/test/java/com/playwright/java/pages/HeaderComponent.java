@@ -0,0 +1,79 @@
+package com.playwright.java.pages;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.playwright.java.config.TestData;
+import io.qameta.allure.Step;
+import java.util.List;
+
+// Header shared by every authenticated page: title, cart link/badge and burger menu.
+// HomePage and ComponentsPage delegate to one instance instead of duplicating selectors.
+public class HeaderComponent {
+    static final String TITLE = "[data-test='title']";
+    static final String CART_LINK = "[data-test='shopping-cart-link']";
+    static final String CART_BADGE = "[data-test='shopping-cart-badge']";
+    static final String OPEN_MENU = "#react-burger-menu-btn";
+
+    private final Page page;
+    private final TestData testData;
+
+    // Locators are created once per page and resolved lazily on each action.
+    private final Locator title;
+    private final Locator cartLink;
+    private final Locator cartBadge;
+    private final SidebarMenu menu;
+
+    public HeaderComponent(Page page) {
+        this.page = page;
+        this.testData = TestData.get();
+        this.title = page.locator(TITLE);
+        this.cartLink = page.locator(CART_LINK);
+        this.cartBadge = page.locator(CART_BADGE);
+        this.menu = new SidebarMenu(page);
+    }
+
+    public SidebarMenu menu() {
+        return menu;
+    }
+
+    public String getTitle() {
+        return title.innerText().trim();
+    }
+
+    // Returns number of items in cart badge, or 0 when there is no badge.
+    // A single allInnerTexts() call replaces the count() + innerText() pair.
+    public int getCartBadgeCount() {
+        List<String> badgeTexts = cartBadge.allInnerTexts();
+        if (badgeTexts.isEmpty()) {
+            return 0;
+        }
+        return Integer.parseInt(badgeTexts.get(0).trim());
+    }
+
+    public boolean hasCartBadgeCount(int expectedCount) {
+        return getCartBadgeCount() == expectedCount;
+    }
+
+    @Step("Open cart page")
+    public void openCart() {
+        cartLink.click();
+    }
+
+    public boolean isCartPageLoaded() {
+        return page.url().contains(testData.route("cart"))
+                && testData.expected("cartTitle").equals(getTitle());
+    }
+
+    public void openMenu() {
+        menu.open();
+    }
+
+    public void logout() {
+        menu.logout();
+    }
+
+    // Resets application state (clears cart/internal session state).
+    public void resetAppState() {
+        menu.resetAppState();
+    }
+}
@@ -1,9 +1,10 @@
 package com.playwright.java.pages;
 
+import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.playwright.java.config.TestData;
 import io.qameta.allure.Step;
-import java.util.Comparator;
+import java.text.Collator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -13,25 +14,44 @@ public class HomePage {
     private final Page page;
     private final TestData testData;
 
-    // Selectors for key homepage elements.
-    private static final String TITLE = "[data-test='title']";
+    // Selectors for key homepage elements (header, cart and menu live in HeaderComponent).
     private static final String INVENTORY_LIST = "[data-test='inventory-list']";
     private static final String INVENTORY_ITEM = "[data-test='inventory-item']";
     private static final String SORT_DROPDOWN = "[data-test='product-sort-container']";
     private static final String ACTIVE_SORT_OPTION = "[data-test='active-option']";
-    private static final String CART_LINK = "[data-test='shopping-cart-link']";
-    private static final String CART_BADGE = "[data-test='shopping-cart-badge']";
-    private static final String OPEN_MENU = "#react-burger-menu-btn";
-    private static final String LOGOUT_SIDEBAR_LINK = "[data-test='logout-sidebar-link']";
-    private static final String RESET_SIDEBAR_LINK = "[data-test='reset-sidebar-link']";
     private static final String FOOTER = "[data-test='footer']";
+    private static final String FOOTER_COPY = "[data-test='footer-copy']";
     private static final String PRODUCT_NAME = "[data-test='inventory-item-name']";
     private static final String PRODUCT_DESC = "[data-test='inventory-item-desc']";
     private static final String PRODUCT_PRICE = "[data-test='inventory-item-price']";
     private static final String BACK_TO_PRODUCTS_BUTTON = "[data-test='back-to-products']";
     private static final String ADD_TO_CART_DETAILS_BUTTON = "[data-test='add-to-cart']";
-    private static final String ADD_BACKPACK_BUTTON = "[data-test='add-to-cart-sauce-labs-backpack']";
-    private static final String REMOVE_BACKPACK_BUTTON = "[data-test='remove-sauce-labs-backpack']";
+    private static final String ANY_ADD_TO_CART_BUTTON = "button[data-test^='add-to-cart']";
+    private static final String INVENTORY_IMAGE = "img[data-test$='-img']";
+    private static final String BACKPACK = "sauce-labs-backpack";
+
+    private final HeaderComponent header;
+    private final CartButton backpackButton;
+    private final Collator nameCollator = SortCheck.nameCollator();
+
+    // Locators are created once per page and resolved lazily on each action.
+    private final Locator inventoryItems;
+    private final Locator sortDropdown;
+    private final Locator activeSortOption;
+    private final Locator productName;
+    private final Locator productDescription;
+    private final Locator productPrice;
+    private final Locator backToProductsButton;
+    private final Locator addToCartDetailsButton;
+    private final Locator inventoryImages;
+    private final Locator misalignedProductNames;
+    private final Locator misalignedButtons;
+
+    // Multi-element checks: one count() instead of one isVisible() per element.
+    private final Locator loadedMarkers;
+    private final Locator mainHomeElements;
+    private final Locator productDetailsElements;
+    private final Locator detailsAddToCartButtons;
 
     public static final class HomeAnomalyResult {
         private final boolean brokenImageIssue;
@@ -84,20 +104,43 @@ public class HomePage {
         private final HomeAnomalyResult homeAnomalyResult;
         private final long loginDurationMs;
         private final long delayThresholdMs;
+        private final MainThreadMonitor.Report mainThreadReport;
 
         public PerformanceGlitchHomeAnomalyResult(
                 HomeAnomalyResult homeAnomalyResult,
                 long loginDurationMs,
-                long delayThresholdMs) {
+                long delayThresholdMs,
+                MainThreadMonitor.Report mainThreadReport) {
             this.homeAnomalyResult = homeAnomalyResult;
             this.loginDurationMs = loginDurationMs;
             this.delayThresholdMs = delayThresholdMs;
+            this.mainThreadReport = mainThreadReport;
         }
 
         public boolean hasDelayIssue() {
             return loginDurationMs >= delayThresholdMs;
         }
 
+        // Most of the delay spent in long tasks means the page itself was busy, not waiting on the server.
+        public boolean isMainThreadBound() {
+            return mainThreadReport.isSupported() && mainThreadReport.totalLongTaskMs() * 2 >= loginDurationMs;
+        }
+
+        // none, mainThread, server (or network), or unknown when long tasks cannot be observed.
+        public String delayCause() {
+            if (!hasDelayIssue()) {
+                return "none";
+            }
+            if (!mainThreadReport.isSupported()) {
+                return "unknown";
+            }
+            return isMainThreadBound() ? "mainThread" : "server";
+        }
+
+        public MainThreadMonitor.Report mainThreadReport() {
+            return mainThreadReport;
+        }
+
         public boolean hasAnyKnownIssue() {
             return hasDelayIssue() || homeAnomalyResult.hasAnyKnownIssue();
         }
@@ -113,7 +156,11 @@ public class HomePage {
                     + ", delayThresholdMs="
                     + delayThresholdMs
                     + ", delayIssue="
-                    + hasDelayIssue();
+                    + hasDelayIssue()
+                    + ", delayCause="
+                    + delayCause()
+                    + ", "
+                    + mainThreadReport.toEvidenceText();
         }
     }
 
@@ -145,34 +192,70 @@ public class HomePage {
     }
 
     public HomePage(Page page) {
+        this(page, new HeaderComponent(page));
+    }
+
+    // Pages of the same tab share one header, so the tracked menu state stays consistent.
+    public HomePage(Page page, HeaderComponent header) {
         this.page = page;
         this.testData = TestData.get();
+        this.header = header;
+        this.backpackButton = new CartButton(page, BACKPACK);
+
+        this.inventoryItems = page.locator(INVENTORY_ITEM);
+        this.sortDropdown = page.locator(SORT_DROPDOWN);
+        this.activeSortOption = page.locator(ACTIVE_SORT_OPTION);
+        this.productName = page.locator(PRODUCT_NAME);
+        this.productDescription = page.locator(PRODUCT_DESC);
+        this.productPrice = page.locator(PRODUCT_PRICE);
+        this.backToProductsButton = page.locator(BACK_TO_PRODUCTS_BUTTON);
+        this.addToCartDetailsButton = page.locator(ADD_TO_CART_DETAILS_BUTTON);
+        this.inventoryImages = page.locator(INVENTORY_IMAGE);
+        this.misalignedProductNames = page.locator(PRODUCT_NAME + "." + testData.knownIndicator("visualNameMisalignmentClass"));
+        this.misalignedButtons = page.locator("button." + testData.knownIndicator("visualButtonMisalignmentClass"));
+
+        this.loadedMarkers = page.locator(INVENTORY_LIST + ":visible, "
+                + HeaderComponent.TITLE + ":text-is(\"" + testData.expected("homeTitle") + "\")");
+        this.mainHomeElements = page.locator(String.join(", ",
+                SORT_DROPDOWN + ":visible",
+                HeaderComponent.CART_LINK + ":visible",
+                HeaderComponent.OPEN_MENU + ":visible",
+                FOOTER + ":visible"));
+        this.productDetailsElements = page.locator(String.join(", ",
+                PRODUCT_NAME + ":visible",
+                PRODUCT_DESC + ":visible",
+                PRODUCT_PRICE + ":visible"));
+        this.detailsAddToCartButtons = page.locator(ANY_ADD_TO_CART_BUTTON);
+    }
+
+    public HeaderComponent header() {
+        return header;
     }
 
     // Validates the main Home/Inventory load state.
     @Step("Validate Home/Inventory is loaded")
     public boolean isLoaded() {
+        // Visible inventory list and expected title, resolved in one round trip.
         return page.url().contains(testData.route("inventory"))
-                && page.locator(INVENTORY_LIST).isVisible()
-                && testData.expected("homeTitle").equals(page.locator(TITLE).innerText().trim());
+                && loadedMarkers.count() == 2;
     }
 
     // Counts how many products are listed.
     @Step("Count listed inventory items")
     public int getInventoryItemCount() {
-        return page.locator(INVENTORY_ITEM).count();
+        return inventoryItems.count();
     }
 
     // Returns the title shown on home (Products).
     @Step("Get homepage title")
     public String getPageTitle() {
-        return page.locator(TITLE).innerText().trim();
+        return header.getTitle();
     }
 
     // Returns the active sorting option shown at the top.
     @Step("Get active sort option")
     public String getActiveSortOption() {
-        return page.locator(ACTIVE_SORT_OPTION).innerText().trim();
+        return activeSortOption.innerText().trim();
     }
 
     public boolean hasExpectedTitle() {
@@ -190,7 +273,7 @@ public class HomePage {
     // Changes sorting by select option value: az, za, lohi, hilo.
     @Step("Sort products by option: {optionValue}")
     public void sortBy(String optionValue) {
-        page.locator(SORT_DROPDOWN).selectOption(optionValue);
+        sortDropdown.selectOption(optionValue);
     }
 
     @Step("Sort by name ascending (A-Z)")
@@ -216,7 +299,7 @@ public class HomePage {
     // Clicks a specific product by name.
     @Step("Click product: {productName}")
     public void clickProductByName(String productName) {
-        page.locator("[data-test='inventory-item-name']:has-text('" + productName + "')")
+        this.productName.filter(new Locator.FilterOptions().setHasText(productName))
             .first()
             .click();
     }
@@ -230,137 +313,134 @@ public class HomePage {
     @Step("Validate product details page is loaded")
     public boolean isProductDetailsLoaded() {
         return page.url().contains(testData.route("productDetails"))
-                && page.locator(PRODUCT_NAME).isVisible()
-                && page.locator(PRODUCT_DESC).isVisible()
-                && page.locator(PRODUCT_PRICE).isVisible();
+                && productDetailsElements.count() == 3;
     }
 
     @Step("Get product name from details")
     public String getProductDetailsName() {
-        return page.locator(PRODUCT_NAME).innerText().trim();
+        return productName.innerText().trim();
     }
 
     @Step("Get product description from details")
     public String getProductDetailsDescription() {
-        return page.locator(PRODUCT_DESC).innerText().trim();
+        return productDescription.innerText().trim();
     }
 
     @Step("Get product price from details")
     public String getProductDetailsPrice() {
-        return page.locator(PRODUCT_PRICE).innerText().trim();
+        return productPrice.innerText().trim();
     }
 
     @Step("Add to cart from details")
     public void addToCartFromProductDetails() {
-        if (page.locator(ADD_TO_CART_DETAILS_BUTTON).count() > 0) {
-            page.locator(ADD_TO_CART_DETAILS_BUTTON).click();
+        if (addToCartDetailsButton.count() > 0) {
+            addToCartDetailsButton.click();
             return;
         }
-        page.locator("button[data-test^='add-to-cart']").first().click();
+        detailsAddToCartButtons.first().click();
     }
 
     public boolean isAddToCartButtonVisibleOnDetails() {
-        return page.locator(ADD_TO_CART_DETAILS_BUTTON).count() > 0
-                || page.locator("button[data-test^='add-to-cart']").count() > 0;
+        // [data-test='add-to-cart'] also matches the prefix selector, so one count() covers both.
+        return detailsAddToCartButtons.count() > 0;
     }
 
     @Step("Return from details to product list")
     public void backToProductsFromDetails() {
-        page.locator(BACK_TO_PRODUCTS_BUTTON).click();
+        backToProductsButton.click();
     }
 
     public boolean isBackButtonVisibleOnDetails() {
-        return page.locator(BACK_TO_PRODUCTS_BUTTON).isVisible();
+        return backToProductsButton.isVisible();
     }
 
     // Captures names of all visible products.
     public List<String> getProductNames() {
-        return page.locator(PRODUCT_NAME).allInnerTexts().stream()
+        return productName.allInnerTexts().stream()
                 .map(String::trim)
                 .collect(Collectors.toList());
     }
 
     // Captures prices of all products and converts to number.
     public List<Double> getProductPrices() {
-        return page.locator(PRODUCT_PRICE).allInnerTexts().stream()
+        return productPrice.allInnerTexts().stream()
                 .map(text -> text.replace("$", "").trim())
                 .map(Double::parseDouble)
                 .collect(Collectors.toList());
     }
 
+    // Verifies name order in one pass over a String[] with a locale-aware collator.
+    public SortCheck checkProductNamesSorted(boolean ascending) {
+        return SortCheck.of(SortCheck.trimmed(productName.allInnerTexts()), nameCollator, ascending);
+    }
+
+    // Verifies price order in one pass over a double[].
+    public SortCheck checkPricesSorted(boolean ascending) {
+        return SortCheck.of(SortCheck.parsePrices(productPrice.allInnerTexts()), ascending);
+    }
+
     // Checks if names are in ascending order (A-Z).
     public boolean areProductNamesSortedAscending() {
-        List<String> names = getProductNames();
-        List<String> sorted = names.stream().sorted().collect(Collectors.toList());
-        return names.equals(sorted);
+        return checkProductNamesSorted(true).isSorted();
     }
 
     // Checks if names are in descending order (Z-A).
     public boolean areProductNamesSortedDescending() {
-        List<String> names = getProductNames();
-        List<String> sorted = names.stream().sorted(Comparator.reverseOrder()).collect(Collectors.toList());
-        return names.equals(sorted);
+        return checkProductNamesSorted(false).isSorted();
     }
 
     // Checks if prices are sorted from low to high.
     public boolean arePricesSortedAscending() {
-        List<Double> prices = getProductPrices();
-        List<Double> sorted = prices.stream().sorted().collect(Collectors.toList());
-        return prices.equals(sorted);
+        return checkPricesSorted(true).isSorted();
     }
 
     // Checks if prices are sorted from high to low.
     public boolean arePricesSortedDescending() {
-        List<Double> prices = getProductPrices();
-        List<Double> sorted = prices.stream().sorted(Comparator.reverseOrder()).collect(Collectors.toList());
-        return prices.equals(sorted);
+        return checkPricesSorted(false).isSorted();
     }
 
     // Adds Backpack to the cart.
     @Step("Add Backpack to cart")
     public void addBackpackToCart() {
-        page.locator(ADD_BACKPACK_BUTTON).click();
+        backpackButton.add();
     }
 
     // Removes Backpack from the cart.
     @Step("Remove Backpack from cart")
     public void removeBackpackFromCart() {
-        page.locator(REMOVE_BACKPACK_BUTTON).click();
+        backpackButton.remove();
     }
 
     // Tries to remove Backpack without adding it first.
     // Returns true when Remove button was available and clicked.
     @Step("Try removing Backpack without adding")
     public boolean tryRemoveBackpackWithoutAdding() {
-        if (!page.locator(REMOVE_BACKPACK_BUTTON).isVisible()) {
+        if (!backpackButton.isAdded()) {
             return false;
         }
 
-        page.locator(REMOVE_BACKPACK_BUTTON).click();
+        backpackButton.remove();
         return true;
     }
 
     // If Remove button is visible, item is considered added.
     public boolean isBackpackAddedToCart() {
-        return page.locator(REMOVE_BACKPACK_BUTTON).isVisible();
+        return backpackButton.isAdded();
     }
 
     public boolean isBackpackReadyToAdd() {
-        return page.locator(ADD_BACKPACK_BUTTON).isVisible()
-                && page.locator(REMOVE_BACKPACK_BUTTON).count() == 0;
+        return backpackButton.isReadyToAdd();
     }
 
     // Known anomaly for problem_user: Backpack may start as Remove without add.
     public boolean isBackpackInIncorrectDefaultState() {
-        return page.locator(REMOVE_BACKPACK_BUTTON).isVisible()
-                && page.locator(ADD_BACKPACK_BUTTON).count() == 0;
+        return backpackButton.isRemoveShownWithoutAdd();
     }
 
     // Known anomaly for problem_user: inventory images may use sl-404 placeholder.
     public boolean areAllInventoryImagesUsingErrorPlaceholder() {
         String errorPlaceholder = testData.knownIndicator("imageErrorPlaceholder");
-        List<String> imageSources = page.locator("img[data-test$='-img']").all().stream()
-                .map(locator -> locator.getAttribute("src"))
+        List<String> imageSources = imageSources().stream()
                 .filter(source -> source != null && !source.isBlank())
                 .collect(Collectors.toList());
 
@@ -370,21 +450,25 @@ public class HomePage {
     // Less strict check: confirms at least one broken inventory image.
     public boolean hasAnyInventoryImageUsingErrorPlaceholder() {
         String errorPlaceholder = testData.knownIndicator("imageErrorPlaceholder");
-        return page.locator("img[data-test$='-img']").all().stream()
-                .map(locator -> locator.getAttribute("src"))
+        return imageSources().stream()
                 .filter(source -> source != null && !source.isBlank())
-            .anyMatch(source -> source.contains(errorPlaceholder));
+                .anyMatch(source -> source.contains(errorPlaceholder));
     }
 
     // Visual anomaly for visual_user: some product names may be misaligned.
     public boolean hasAnyProductNameWithMisalignment() {
-        return page.locator("[data-test='inventory-item-name']." + testData.knownIndicator("visualNameMisalignmentClass"))
-                .count() > 0;
+        return misalignedProductNames.count() > 0;
     }
 
     // Visual anomaly for visual_user: some buttons may be misaligned.
     public boolean hasAnyButtonWithMisalignment() {
-        return page.locator("button." + testData.knownIndicator("visualButtonMisalignmentClass")).count() > 0;
+        return misalignedButtons.count() > 0;
+    }
+
+    // All image sources in one round trip instead of one getAttribute() per image.
+    @SuppressWarnings("unchecked")
+    private List<String> imageSources() {
+        return (List<String>) inventoryImages.evaluateAll("images => images.map(image => image.getAttribute('src'))");
     }
 
     private HomeAnomalyResult analyzeCurrentHomeAnomalies() {
@@ -431,65 +515,70 @@ public class HomePage {
         return new VisualUserHomeAnomalyResult(textMisalignment, buttonMisalignment);
     }
 
-    @Step("Analyze homepage anomalies and delay for performance_glitch_user")
-    public PerformanceGlitchHomeAnomalyResult analyzePerformanceGlitchUserIssues(long loginDurationMs) {
+    // Homepage anomalies and login delay, with the main-thread activity observed during login and inventory render.
+    @Step("Analyze homepage anomalies, delay and main-thread blocking for performance_glitch_user")
+    public PerformanceGlitchHomeAnomalyResult analyzePerformanceGlitchUserIssues(
+            long loginDurationMs, MainThreadMonitor.Report mainThreadReport) {
         HomeAnomalyResult homeAnomalyResult = analyzePerformanceGlitchUserHomeAnomalies();
         return new PerformanceGlitchHomeAnomalyResult(
                 homeAnomalyResult,
                 loginDurationMs,
-                testData.thresholdMs("performanceGlitchDelayMs"));
+                testData.thresholdMs("performanceGlitchDelayMs"),
+                mainThreadReport);
     }
 
     // Returns number of items in cart badge.
     // If badge does not exist, returns 0.
     public int getCartBadgeCount() {
-        if (page.locator(CART_BADGE).count() == 0) {
-            return 0;
-        }
-        return Integer.parseInt(page.locator(CART_BADGE).innerText().trim());
+        return header.getCartBadgeCount();
     }
 
     public boolean hasCartBadgeCount(int expectedCount) {
-        return getCartBadgeCount() == expectedCount;
+        return header.hasCartBadgeCount(expectedCount);
     }
 
     // Opens cart page.
-    @Step("Open cart page")
     public void openCart() {
-        page.locator(CART_LINK).click();
+        header.openCart();
     }
 
     // Validates whether cart page is loaded.
     public boolean isCartPageLoaded() {
-        return page.url().contains(testData.route("cart"))
-                && testData.expected("cartTitle").equals(page.locator(TITLE).innerText().trim());
+        return header.isCartPageLoaded();
     }
 
     // Opens side hamburger menu.
-    @Step("Open side menu")
     public void openMenu() {
-        page.locator(OPEN_MENU).click();
+        header.openMenu();
     }
 
     // Performs logout from side menu.
-    @Step("Logout from home")
     public void logout() {
-        openMenu();
-        page.locator(LOGOUT_SIDEBAR_LINK).click();
+        header.logout();
     }
 
     // Resets application state (clears cart/internal session state).
-    @Step("Reset application state")
     public void resetAppState() {
-        openMenu();
-        page.locator(RESET_SIDEBAR_LINK).click();
+        header.resetAppState();
+    }
+
+    // Title and main homepage elements as batchable checks, so every missing element is reported.
+    public List<PageCheck> mainHomeChecks() {
+        return List.of(
+                PageCheck.textEquals("Title is '" + testData.expected("homeTitle") + "'", HeaderComponent.TITLE, testData.expected("homeTitle")),
+                PageCheck.visible("Sort dropdown is visible", SORT_DROPDOWN),
+                PageCheck.visible("Cart link is visible", HeaderComponent.CART_LINK),
+                PageCheck.visible("Menu button is visible", HeaderComponent.OPEN_MENU),
+                PageCheck.visible("Footer is visible", FOOTER));
+    }
+
+    // Regions that change between runs (copyright year, cart badge), masked in visual comparisons.
+    public List<Locator> visualMasks() {
+        return List.of(page.locator(FOOTER_COPY), page.locator(HeaderComponent.CART_BADGE));
     }
 
-    // Checks presence of main homepage elements.
+    // Checks presence of main homepage elements (sort, cart, menu, footer) with one combined locator.
     public boolean hasMainHomeElements() {
-        return page.locator(SORT_DROPDOWN).isVisible()
-                && page.locator(CART_LINK).isVisible()
-                && page.locator(OPEN_MENU).isVisible()
-                && page.locator(FOOTER).isVisible();
+        return mainHomeElements.count() == 4;
     }
 }
@@ -1,8 +1,10 @@
 package com.playwright.java.pages;
 
+import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.playwright.java.config.TestData;
 import io.qameta.allure.Step;
+import java.util.List;
 
 // Page Object for the login screen.
 // This class contains only login-page actions and validations.
@@ -22,10 +24,30 @@ public class LoginPage {
     private static final String LOGIN_PASSWORD_HINT = "[data-test='login-password']";
     private static final String ERROR_MESSAGE = "[data-test='error']";
 
+    // Locators are created once per page and resolved lazily on each action.
+    private final Locator usernameInput;
+    private final Locator passwordInput;
+    private final Locator loginButton;
+    private final Locator loginContainer;
+    private final Locator loginLogo;
+    private final Locator credentialsContainer;
+    private final Locator credentials;
+    private final Locator passwordHint;
+    private final Locator errorMessage;
+
     // Receives the page instance used to perform interactions.
     public LoginPage(Page page) {
         this.page = page;
         this.testData = TestData.get();
+        this.usernameInput = page.locator(USERNAME_INPUT);
+        this.passwordInput = page.locator(PASSWORD_INPUT);
+        this.loginButton = page.locator(LOGIN_BUTTON);
+        this.loginContainer = page.locator(LOGIN_CONTAINER);
+        this.loginLogo = page.locator(LOGIN_LOGO);
+        this.credentialsContainer = page.locator(LOGIN_CREDENTIALS_CONTAINER);
+        this.credentials = page.locator(LOGIN_CREDENTIALS);
+        this.passwordHint = page.locator(LOGIN_PASSWORD_HINT);
+        this.errorMessage = page.locator(ERROR_MESSAGE);
     }
 
     // Navigates to the application base URL.
@@ -37,30 +59,44 @@ public class LoginPage {
     // Checks whether the login screen is visible.
     @Step("Validate that the login screen is loaded")
     public boolean isLoaded() {
-        return page.locator(LOGIN_CONTAINER).isVisible();
+        return loginContainer.isVisible();
+    }
+
+    // Login screen structure as batchable read-only checks (see JourneyPlan).
+    public PageCheck loadedCheck() {
+        return PageCheck.visible("Login container is visible", LOGIN_CONTAINER);
+    }
+
+    public List<PageCheck> layoutChecks() {
+        return List.of(
+                PageCheck.visible("Swag Labs logo is visible", LOGIN_LOGO),
+                PageCheck.visible("Username field is visible", USERNAME_INPUT),
+                PageCheck.visible("Password field is visible", PASSWORD_INPUT),
+                PageCheck.visible("Login button is visible", LOGIN_BUTTON),
+                PageCheck.visible("Credentials panel is visible", LOGIN_CREDENTIALS_CONTAINER));
     }
 
     @Step("Validate login button is visible")
     public boolean isLoginButtonVisible() {
-        return page.locator(LOGIN_BUTTON).isVisible();
+        return loginButton.isVisible();
     }
 
     @Step("Validate username field is visible")
     public boolean isUsernameInputVisible() {
-        return page.locator(USERNAME_INPUT).isVisible();
+        return usernameInput.isVisible();
     }
 
     @Step("Validate password field is visible")
     public boolean isPasswordInputVisible() {
-        return page.locator(PASSWORD_INPUT).isVisible();
+        return passwordInput.isVisible();
     }
 
     // Fills in username/password and clicks login.
     @Step("Log in with user: {username}")
     public void login(String username, String password) {
-        page.locator(USERNAME_INPUT).fill(username);
-        page.locator(PASSWORD_INPUT).fill(password);
-        page.locator(LOGIN_BUTTON).click();
+        usernameInput.fill(username);
+        passwordInput.fill(password);
+        loginButton.click();
     }
 
     @Step("Open application and log in with user: {username}")
@@ -71,32 +107,32 @@ public class LoginPage {
 
     @Step("Fill username: {username}")
     public void fillUsername(String username) {
-        page.locator(USERNAME_INPUT).fill(username);
+        usernameInput.fill(username);
     }
 
     @Step("Fill password")
     public void fillPassword(String password) {
-        page.locator(PASSWORD_INPUT).fill(password);
+        passwordInput.fill(password);
     }
 
     @Step("Click the Login button")
     public void clickLogin() {
-        page.locator(LOGIN_BUTTON).click();
+        loginButton.click();
     }
 
     @Step("Validate Swag Labs logo is visible")
     public boolean isLogoVisible() {
-        return page.locator(LOGIN_LOGO).isVisible();
+        return loginLogo.isVisible();
     }
 
     @Step("Validate credentials panel is visible")
     public boolean isCredentialsPanelVisible() {
-        return page.locator(LOGIN_CREDENTIALS_CONTAINER).isVisible();
+        return credentialsContainer.isVisible();
     }
 
     @Step("Get accepted usernames text")
     public String getAcceptedUsernamesText() {
-        return page.locator(LOGIN_CREDENTIALS).innerText();
+        return credentials.innerText();
     }
 
     @Step("Validate all accepted usernames are displayed")
@@ -107,7 +143,7 @@ public class LoginPage {
 
     @Step("Get password hint text")
     public String getPasswordHintText() {
-        return page.locator(LOGIN_PASSWORD_HINT).innerText();
+        return passwordHint.innerText();
     }
 
     @Step("Validate default password is shown on screen")
@@ -117,12 +153,12 @@ public class LoginPage {
 
     @Step("Validate error message is visible")
     public boolean isErrorVisible() {
-        return page.locator(ERROR_MESSAGE).isVisible();
+        return errorMessage.isVisible();
     }
 
     @Step("Get error message")
     public String getErrorMessage() {
-        return page.locator(ERROR_MESSAGE).innerText().trim();
+        return errorMessage.innerText().trim();
     }
 
     @Step("Validate error message contains: {expectedText}")
@@ -0,0 +1,164 @@
+package com.playwright.java.pages;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import java.util.List;
+import java.util.Map;
+
+// Collects main-thread long tasks and slow interactions through PerformanceObserver.
+// Opt-in per test (install): the observer is injected with context.addInitScript, so it runs before any page
+// script of later documents, and entries are carried across full navigations in sessionStorage (login -> inventory).
+// Only tests that install it get the observer and the sessionStorage key, so other checks see the page untouched.
+// Long tasks and Event Timing are Chromium features; other engines report them as unsupported.
+public final class MainThreadMonitor {
+    // Tasks longer than this block input; the excess counts as blocking time (Lighthouse TBT rule).
+    private static final double LONG_TASK_BUDGET_MS = 50.0;
+
+    static final String INIT_SCRIPT = "(() => {"
+            + "  if (window.__mainThread) return;"
+            + "  const storageKey = '__mainThreadEntries';"
+            + "  const state = { longTasks: [], interactions: [], observers: [], longtask: false, event: false };"
+            + "  try {"
+            + "    const saved = JSON.parse(sessionStorage.getItem(storageKey) || 'null');"
+            + "    if (saved) { state.longTasks = saved.longTasks; state.interactions = saved.interactions; }"
+            + "  } catch (error) {}"
+            + "  const record = entries => entries.forEach(entry => {"
+            + "    if (entry.entryType === 'longtask') state.longTasks.push(entry.duration);"
+            + "    else if (!('interactionId' in entry) || entry.interactionId > 0) state.interactions.push(entry.duration);"
+            + "  });"
+            + "  const supported = (typeof PerformanceObserver !== 'undefined' && PerformanceObserver.supportedEntryTypes) || [];"
+            + "  const observe = (type, options) => {"
+            + "    if (!supported.includes(type)) return false;"
+            + "    const observer = new PerformanceObserver(list => record(list.getEntries()));"
+            + "    observer.observe(Object.assign({ type: type, buffered: true }, options));"
+            + "    state.observers.push(observer);"
+            + "    return true;"
+            + "  };"
+            + "  state.longtask = observe('longtask', {});"
+            + "  state.event = observe('event', { durationThreshold: 16 });"
+            + "  state.flush = () => state.observers.forEach(observer => record(observer.takeRecords()));"
+            + "  addEventListener('pagehide', () => {"
+            + "    state.flush();"
+            + "    try {"
+            + "      sessionStorage.setItem(storageKey, JSON.stringify({ longTasks: state.longTasks, interactions: state.interactions }));"
+            + "    } catch (error) {}"
+            + "  });"
+            + "  window.__mainThread = state;"
+            + "})();";
+
+    private static final String RESET_SCRIPT = "() => {"
+            + "  const state = window.__mainThread;"
+            + "  if (state) { state.flush(); state.longTasks.length = 0; state.interactions.length = 0; }"
+            + "  try { sessionStorage.removeItem('__mainThreadEntries'); } catch (error) {}"
+            + "}";
+
+    private static final String COLLECT_SCRIPT = "() => {"
+            + "  const state = window.__mainThread;"
+            + "  if (!state) return null;"
+            + "  state.flush();"
+            + "  return { longTasks: state.longTasks, interactions: state.interactions, longtask: state.longtask, event: state.event };"
+            + "}";
+
+    private final Page page;
+
+    private MainThreadMonitor(Page page) {
+        this.page = page;
+    }
+
+    // Observes every later document of the context, plus the page's current document from now on.
+    public static MainThreadMonitor install(BrowserContext context, Page page) {
+        context.addInitScript(INIT_SCRIPT);
+        page.evaluate(INIT_SCRIPT);
+        return new MainThreadMonitor(page);
+    }
+
+    // Starts a new measurement window (e.g. right before login).
+    public void reset() {
+        page.evaluate(RESET_SCRIPT);
+    }
+
+    // Everything observed since the last reset, including previous documents of the same tab.
+    public Report collect() {
+        Object result = page.evaluate(COLLECT_SCRIPT);
+        if (!(result instanceof Map)) {
+            return Report.UNAVAILABLE;
+        }
+
+        Map<?, ?> values = (Map<?, ?>) result;
+        double totalLongTaskMs = 0;
+        double totalBlockingMs = 0;
+        double longestTaskMs = 0;
+        int longTaskCount = 0;
+        for (Object duration : (List<?>) values.get("longTasks")) {
+            double durationMs = ((Number) duration).doubleValue();
+            totalLongTaskMs += durationMs;
+            totalBlockingMs += Math.max(0, durationMs - LONG_TASK_BUDGET_MS);
+            longestTaskMs = Math.max(longestTaskMs, durationMs);
+            longTaskCount++;
+        }
+        double worstInteractionMs = 0;
+        for (Object duration : (List<?>) values.get("interactions")) {
+            worstInteractionMs = Math.max(worstInteractionMs, ((Number) duration).doubleValue());
+        }
+
+        return new Report(
+                Boolean.TRUE.equals(values.get("longtask")),
+                Boolean.TRUE.equals(values.get("event")),
+                longTaskCount,
+                Math.round(totalLongTaskMs),
+                Math.round(totalBlockingMs),
+                Math.round(longestTaskMs),
+                Math.round(worstInteractionMs));
+    }
+
+    public static final class Report {
+        static final Report UNAVAILABLE = new Report(false, false, 0, 0, 0, 0, 0);
+
+        private final boolean longTasksSupported;
+        private final boolean eventTimingSupported;
+        private final int longTaskCount;
+        private final long totalLongTaskMs;
+        private final long totalBlockingTimeMs;
+        private final long longestTaskMs;
+        private final long worstInteractionMs;
+
+        Report(boolean longTasksSupported, boolean eventTimingSupported, int longTaskCount, long totalLongTaskMs,
+                long totalBlockingTimeMs, long longestTaskMs, long worstInteractionMs) {
+            this.longTasksSupported = longTasksSupported;
+            this.eventTimingSupported = eventTimingSupported;
+            this.longTaskCount = longTaskCount;
+            this.totalLongTaskMs = totalLongTaskMs;
+            this.totalBlockingTimeMs = totalBlockingTimeMs;
+            this.longestTaskMs = longestTaskMs;
+            this.worstInteractionMs = worstInteractionMs;
+        }
+
+        public boolean isSupported() {
+            return longTasksSupported;
+        }
+
+        // Time spent in long tasks, i.e. with the main thread busy for more than 50 ms at a time.
+        public long totalLongTaskMs() {
+            return totalLongTaskMs;
+        }
+
+        public long totalBlockingTimeMs() {
+            return totalBlockingTimeMs;
+        }
+
+        public long worstInteractionMs() {
+            return worstInteractionMs;
+        }
+
+        public String toEvidenceText() {
+            if (!longTasksSupported) {
+                return "mainThread=unsupported";
+            }
+            return "longTasks=" + longTaskCount
+                    + ", longTaskMs=" + totalLongTaskMs
+                    + ", totalBlockingTimeMs=" + totalBlockingTimeMs
+                    + ", longestTaskMs=" + longestTaskMs
+                    + ", worstInteractionMs=" + (eventTimingSupported ? String.valueOf(worstInteractionMs) : "unsupported");
+        }
+    }
+}
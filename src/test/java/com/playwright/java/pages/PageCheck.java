@@ -0,0 +1,101 @@
+package com.playwright.java.pages;
+
+import com.microsoft.playwright.Page;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Read-only predicate on a selector that can be resolved together with other checks.
+// A batch of checks costs one page.evaluate round trip instead of one Playwright call per element.
+// The first element matching the selector is inspected.
+public final class PageCheck {
+    // Returns the observed value of each check; pass/fail is decided on the Java side.
+    // Visibility mirrors Playwright's rule: non-empty bounding box and not visibility:hidden.
+    private static final String EVALUATE_CHECKS = "checks => checks.map(check => {"
+            + "  const element = document.querySelector(check.selector);"
+            + "  if (!element) return 'missing';"
+            + "  if (check.kind === 'TEXT_EQUALS') return element.innerText.trim();"
+            + "  const box = element.getBoundingClientRect();"
+            + "  return box.width > 0 && box.height > 0 && getComputedStyle(element).visibility !== 'hidden'"
+            + "      ? 'visible' : 'hidden';"
+            + "})";
+
+    enum Kind {
+        VISIBLE,
+        TEXT_EQUALS
+    }
+
+    private final String name;
+    private final String selector;
+    private final Kind kind;
+    private final String expected;
+
+    private PageCheck(String name, String selector, Kind kind, String expected) {
+        this.name = name;
+        this.selector = selector;
+        this.kind = kind;
+        this.expected = expected;
+    }
+
+    public static PageCheck visible(String name, String selector) {
+        return new PageCheck(name, selector, Kind.VISIBLE, "visible");
+    }
+
+    public static PageCheck textEquals(String name, String selector, String expectedText) {
+        return new PageCheck(name, selector, Kind.TEXT_EQUALS, expectedText);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String selector() {
+        return selector;
+    }
+
+    // Resolves every check in a single browser evaluation; results keep the input order.
+    public static List<Result> evaluateAll(Page page, List<PageCheck> checks) {
+        List<Map<String, String>> payload = new ArrayList<>(checks.size());
+        for (PageCheck check : checks) {
+            payload.add(Map.of("selector", check.selector, "kind", check.kind.name()));
+        }
+
+        List<?> values = (List<?>) page.evaluate(EVALUATE_CHECKS, payload);
+        List<Result> results = new ArrayList<>(checks.size());
+        for (int index = 0; index < checks.size(); index++) {
+            PageCheck check = checks.get(index);
+            String actual = String.valueOf(values.get(index));
+            results.add(new Result(check, actual, check.expected.equals(actual)));
+        }
+        return results;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + selector + ")";
+    }
+
+    public static final class Result {
+        private final PageCheck check;
+        private final String actual;
+        private final boolean passed;
+
+        private Result(PageCheck check, String actual, boolean passed) {
+            this.check = check;
+            this.actual = actual;
+            this.passed = passed;
+        }
+
+        public PageCheck check() {
+            return check;
+        }
+
+        public boolean passed() {
+            return passed;
+        }
+
+        public String describe() {
+            return check + ": expected " + check.kind.name().toLowerCase() + " '" + check.expected + "' but was '" + actual + "'";
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.playwright.java.pages;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.WaitForSelectorState;
+import io.qameta.allure.Step;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Burger menu of the header, tracking whether the sidebar is currently open.
+// Actions open the menu only when needed, so chained calls such as
+// resetAppState().close() or resetAppState().logout() pay the slide-in animation once.
+// Any main-frame navigation closes the sidebar, so the tracked state is reset then.
+public class SidebarMenu {
+    private static final String OPEN_MENU = HeaderComponent.OPEN_MENU;
+    private static final String CLOSE_MENU = "#react-burger-cross-btn";
+    private static final String MENU_PANEL = ".bm-menu-wrap";
+    private static final String LOGOUT_SIDEBAR_LINK = "[data-test='logout-sidebar-link']";
+    private static final String RESET_SIDEBAR_LINK = "[data-test='reset-sidebar-link']";
+
+    // Run-wide duration per action, shared by all pages and worker threads.
+    private static final Map<String, Stats> STATS = new ConcurrentHashMap<>();
+
+    private final Locator openButton;
+    private final Locator closeButton;
+    private final Locator menuPanel;
+    private final Locator logoutLink;
+    private final Locator resetLink;
+
+    private boolean open;
+
+    public SidebarMenu(Page page) {
+        this.openButton = page.locator(OPEN_MENU);
+        this.closeButton = page.locator(CLOSE_MENU);
+        this.menuPanel = page.locator(MENU_PANEL);
+        this.logoutLink = page.locator(LOGOUT_SIDEBAR_LINK);
+        this.resetLink = page.locator(RESET_SIDEBAR_LINK);
+        page.onFrameNavigated(frame -> {
+            if (frame == page.mainFrame()) {
+                open = false;
+            }
+        });
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    // Opens the sidebar and waits for the slide-in animation; no-op when already open.
+    @Step("Open side menu")
+    public SidebarMenu open() {
+        if (open) {
+            STATS.computeIfAbsent("open (skipped)", key -> new Stats()).count.increment();
+            return this;
+        }
+
+        long start = System.nanoTime();
+        openButton.click();
+        menuPanel.waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
+        open = true;
+        record("open", start);
+        return this;
+    }
+
+    @Step("Close side menu")
+    public SidebarMenu close() {
+        if (!open) {
+            return this;
+        }
+
+        long start = System.nanoTime();
+        closeButton.click();
+        menuPanel.waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.HIDDEN));
+        open = false;
+        record("close", start);
+        return this;
+    }
+
+    // Resets application state; the sidebar stays open for the next chained action.
+    @Step("Reset application state")
+    public SidebarMenu resetAppState() {
+        open();
+        long start = System.nanoTime();
+        resetLink.click();
+        record("resetAppState", start);
+        return this;
+    }
+
+    // Logs out; the login page replaces the current one, so the sidebar is gone afterwards.
+    @Step("Logout from side menu")
+    public void logout() {
+        open();
+        long start = System.nanoTime();
+        logoutLink.click();
+        open = false;
+        record("logout", start);
+    }
+
+    // One line per action: count, total and average duration in milliseconds.
+    public static String timingSummary() {
+        StringBuilder summary = new StringBuilder("menu actions:");
+        for (Map.Entry<String, Stats> entry : new TreeMap<>(STATS).entrySet()) {
+            long count = entry.getValue().count.sum();
+            long totalMs = entry.getValue().nanos.sum() / 1_000_000;
+            summary.append(System.lineSeparator())
+                    .append(String.format("  %-18s count=%d, total=%d ms, avg=%d ms",
+                            entry.getKey(), count, totalMs, count == 0 ? 0 : totalMs / count));
+        }
+        return summary.toString();
+    }
+
+    private static void record(String action, long startNanos) {
+        Stats stats = STATS.computeIfAbsent(action, key -> new Stats());
+        stats.count.increment();
+        stats.nanos.add(System.nanoTime() - startNanos);
+    }
+
+    private static final class Stats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+}
@@ -0,0 +1,97 @@
+package com.playwright.java.pages;
+
+import com.microsoft.playwright.Page;
+import io.qameta.allure.Allure;
+import io.qameta.allure.model.Status;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Soft assertions over PageChecks: every check is resolved in one page.evaluate,
+// each one is reported as its own Allure step, and all failures are thrown together.
+// The time saved is measured, not assumed: every SAMPLE_EVERY-th batch (starting with the first) is also
+// evaluated one check per round trip, and the report compares both timings over those sampled batches only.
+public final class SoftChecks {
+    private static final int SAMPLE_EVERY = 10;
+    private static final AtomicLong BATCHES = new AtomicLong();
+    private static final LongAdder CHECKS = new LongAdder();
+    private static final LongAdder BATCH_NANOS = new LongAdder();
+    private static final LongAdder SAMPLED_BATCHES = new LongAdder();
+    private static final LongAdder SAMPLED_BATCH_NANOS = new LongAdder();
+    private static final LongAdder SAMPLED_SEQUENTIAL_NANOS = new LongAdder();
+
+    private final Page page;
+    private final List<PageCheck> checks = new ArrayList<>();
+
+    private SoftChecks(Page page) {
+        this.page = page;
+    }
+
+    public static SoftChecks on(Page page) {
+        return new SoftChecks(page);
+    }
+
+    public SoftChecks checkAll(List<PageCheck> additionalChecks) {
+        checks.addAll(additionalChecks);
+        return this;
+    }
+
+    // One round trip for all checks; no assertion.
+    public List<PageCheck.Result> evaluate() {
+        if (checks.isEmpty()) {
+            return List.of();
+        }
+
+        long start = System.nanoTime();
+        List<PageCheck.Result> results = PageCheck.evaluateAll(page, checks);
+        long elapsed = System.nanoTime() - start;
+
+        long batch = BATCHES.getAndIncrement();
+        CHECKS.add(checks.size());
+        BATCH_NANOS.add(elapsed);
+        if (batch % SAMPLE_EVERY == 0 && checks.size() > 1) {
+            sampleSequential(elapsed);
+        }
+        return results;
+    }
+
+    // Same checks, one page.evaluate each, as a test without batching would run them; results are discarded.
+    private void sampleSequential(long batchNanos) {
+        long start = System.nanoTime();
+        for (PageCheck check : checks) {
+            PageCheck.evaluateAll(page, List.of(check));
+        }
+        SAMPLED_SEQUENTIAL_NANOS.add(System.nanoTime() - start);
+        SAMPLED_BATCH_NANOS.add(batchNanos);
+        SAMPLED_BATCHES.increment();
+    }
+
+    public void assertAll() {
+        assertAll(evaluate());
+    }
+
+    // Reports one Allure step per check, then fails with every broken check listed.
+    public static void assertAll(List<PageCheck.Result> results) {
+        List<String> failures = new ArrayList<>();
+        for (PageCheck.Result result : results) {
+            Allure.step(result.check().name(), result.passed() ? Status.PASSED : Status.FAILED);
+            if (!result.passed()) {
+                failures.add(result.describe());
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new AssertionError(failures.size() + " of " + results.size() + " checks failed:"
+                    + System.lineSeparator() + "  " + String.join(System.lineSeparator() + "  ", failures));
+        }
+    }
+
+    public static String timingSummary() {
+        return String.format("soft checks: batches=%d, checks=%d, batchTime=%d ms;"
+                        + " sampled batches=%d: batched=%d ms, sequential=%d ms, savedVsSequential=%d ms",
+                BATCHES.get(), CHECKS.sum(), BATCH_NANOS.sum() / 1_000_000,
+                SAMPLED_BATCHES.sum(), SAMPLED_BATCH_NANOS.sum() / 1_000_000, SAMPLED_SEQUENTIAL_NANOS.sum() / 1_000_000,
+                (SAMPLED_SEQUENTIAL_NANOS.sum() - SAMPLED_BATCH_NANOS.sum()) / 1_000_000);
+    }
+}
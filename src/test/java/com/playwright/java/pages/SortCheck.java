@@ -0,0 +1,81 @@
+package com.playwright.java.pages;
+
+import java.text.Collator;
+import java.util.List;
+import java.util.Locale;
+
+// Single-pass order verification over primitive arrays: no copy, no sort, no boxing.
+// Each value is compared with its predecessor only, so the cost stays O(n) for large inventories,
+// and the result reports the first position where the order breaks.
+public final class SortCheck {
+    private final int firstBreakIndex;
+    private final String previousValue;
+    private final String breakingValue;
+    private final int size;
+
+    private SortCheck(int firstBreakIndex, String previousValue, String breakingValue, int size) {
+        this.firstBreakIndex = firstBreakIndex;
+        this.previousValue = previousValue;
+        this.breakingValue = breakingValue;
+        this.size = size;
+    }
+
+    // Collator matching how the catalog sorts names (locale-aware, case and accent sensitive).
+    public static Collator nameCollator() {
+        return Collator.getInstance(Locale.ENGLISH);
+    }
+
+    public static SortCheck of(double[] values, boolean ascending) {
+        for (int index = 1; index < values.length; index++) {
+            int comparison = Double.compare(values[index - 1], values[index]);
+            if (ascending ? comparison > 0 : comparison < 0) {
+                return new SortCheck(index, String.valueOf(values[index - 1]), String.valueOf(values[index]), values.length);
+            }
+        }
+        return new SortCheck(-1, null, null, values.length);
+    }
+
+    public static SortCheck of(String[] values, Collator collator, boolean ascending) {
+        for (int index = 1; index < values.length; index++) {
+            int comparison = collator.compare(values[index - 1], values[index]);
+            if (ascending ? comparison > 0 : comparison < 0) {
+                return new SortCheck(index, values[index - 1], values[index], values.length);
+            }
+        }
+        return new SortCheck(-1, null, null, values.length);
+    }
+
+    // Parses "$29.99"-style prices straight into a primitive array.
+    public static double[] parsePrices(List<String> priceTexts) {
+        double[] prices = new double[priceTexts.size()];
+        for (int index = 0; index < prices.length; index++) {
+            prices[index] = Double.parseDouble(priceTexts.get(index).replace("$", "").trim());
+        }
+        return prices;
+    }
+
+    public static String[] trimmed(List<String> texts) {
+        String[] values = new String[texts.size()];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = texts.get(index).trim();
+        }
+        return values;
+    }
+
+    public boolean isSorted() {
+        return firstBreakIndex < 0;
+    }
+
+    // -1 when the list is sorted.
+    public int firstBreakIndex() {
+        return firstBreakIndex;
+    }
+
+    public String describe() {
+        if (isSorted()) {
+            return "sorted (" + size + " values)";
+        }
+        return "order breaks at index " + firstBreakIndex + " of " + size
+                + ": '" + previousValue + "' is followed by '" + breakingValue + "'";
+    }
+}
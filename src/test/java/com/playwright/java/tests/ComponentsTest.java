@@ -3,6 +3,9 @@ package com.playwright.java.tests;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.playwright.java.base.BaseTest;
+import com.playwright.java.base.BrowserTest;
+import com.playwright.java.base.HistoryAwareMethodOrderer;
+import com.playwright.java.base.StartFrom;
 import com.playwright.java.config.TestData;
 import io.qameta.allure.Allure;
 import io.qameta.allure.Description;
@@ -13,19 +16,17 @@ import io.qameta.allure.Severity;
 import io.qameta.allure.SeverityLevel;
 import io.qameta.allure.Story;
 import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 @Epic("Web Automation")
 @Feature("Shared Components")
 @Owner("Gabriel Souza")
-@TestMethodOrder(MethodOrderer.DisplayName.class)
+@TestMethodOrder(HistoryAwareMethodOrderer.class)
 public class ComponentsTest extends BaseTest {
     private final TestData testData = TestData.get();
 
-    @Test
+    @BrowserTest
     @Tag("components")
     @Tag("cart")
     @Tag("tc30")
@@ -44,7 +45,7 @@ public class ComponentsTest extends BaseTest {
                 assertTrue(componentsPage.isCartPageLoaded()));
     }
 
-    @Test
+    @BrowserTest
     @Tag("components")
     @Tag("menu")
     @Tag("tc31")
@@ -53,6 +54,7 @@ public class ComponentsTest extends BaseTest {
     @Story("Menu")
     @Severity(SeverityLevel.CRITICAL)
     @Description("Validates global menu reset state, including badge and Backpack button state. Known defect: after reset, button may remain as Remove.")
+    @StartFrom("inventory-with-backpack")
     void shouldResetAppStateAndRestoreBackpackButtonState() {
         Allure.label("knownIssue", testData.knownIssue("resetBackpackButton"));
         Allure.addAttachment(
@@ -64,17 +66,16 @@ public class ComponentsTest extends BaseTest {
         Allure.step("Given the user is authenticated on the homepage", () ->
                 assertTrue(homePage.isLoaded()));
 
-        Allure.step("And Backpack product was added", () -> {
-            componentsPage.addBackpackToCart();
-            assertTrue(componentsPage.isBackpackAddedToCart());
-        });
+        Allure.step("And Backpack product was added", () ->
+                assertTrue(componentsPage.isBackpackAddedToCart()));
 
         Allure.step("And badge should display 1 item", () ->
                 assertTrue(componentsPage.hasCartBadgeCount(
                         testData.testValueInt("ComponentsTest", "TC31", "badgeBeforeReset"))));
 
+        // The sidebar is already open after reset, so closing it does not replay the animation.
         Allure.step("When executing Reset App State from global menu", () ->
-                componentsPage.resetAppState());
+                componentsPage.header().menu().resetAppState().close());
 
         Allure.step("Then badge should return to 0", () ->
                 assertTrue(componentsPage.hasCartBadgeCount(
@@ -98,7 +99,7 @@ public class ComponentsTest extends BaseTest {
         });
     }
 
-    @Test
+    @BrowserTest
     @Tag("components")
     @Tag("menu")
     @Tag("tc32")
@@ -4,8 +4,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.playwright.java.base.BaseTest;
+import com.playwright.java.base.BrowserTest;
+import com.playwright.java.base.HistoryAwareMethodOrderer;
+import com.playwright.java.base.StartFrom;
 import com.playwright.java.config.TestData;
 import com.playwright.java.pages.HomePage;
+import com.playwright.java.pages.MainThreadMonitor;
+import com.playwright.java.pages.SoftChecks;
+import com.playwright.java.pages.SortCheck;
+import com.playwright.java.visual.VisualCheck;
 import io.qameta.allure.Allure;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
@@ -15,20 +22,18 @@ import io.qameta.allure.Severity;
 import io.qameta.allure.SeverityLevel;
 import io.qameta.allure.Story;
 import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 // HomePage test suite focused on core homepage behavior.
 @Epic("Web Automation")
 @Feature("Homepage")
 @Owner("Gabriel Souza")
-@TestMethodOrder(MethodOrderer.DisplayName.class)
+@TestMethodOrder(HistoryAwareMethodOrderer.class)
 public class HomePageTest extends BaseTest {
     private final TestData testData = TestData.get();
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("smoke")
     @Tag("tc11")
@@ -40,16 +45,19 @@ public class HomePageTest extends BaseTest {
         Allure.step("Given the user is authenticated and on the homepage", () ->
                 assertTrue(homePage.isLoaded()));
 
-        Allure.step("When checking title and homepage elements", () -> {
-            assertTrue(homePage.hasExpectedTitle());
-            assertTrue(homePage.hasMainHomeElements());
-        });
+        Allure.step("When checking title and homepage elements", () ->
+                SoftChecks.on(page).checkAll(homePage.mainHomeChecks()).assertAll());
 
         Allure.step("Then the main homepage elements should be visible", () ->
                 assertTrue(homePage.hasMainHomeElements()));
+
+        Allure.step("And the homepage should match its visual baseline", () -> {
+            VisualCheck.Outcome outcome = visualCheck.compare("inventory", homePage.visualMasks());
+            assertTrue(outcome.skipped() || outcome.matches(), outcome.describe());
+        });
     }
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("tc12")
     @DisplayName("TC12 - Should display Products title")
@@ -67,7 +75,7 @@ public class HomePageTest extends BaseTest {
                 assertTrue(homePage.hasExpectedTitle()));
     }
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("tc13")
     @DisplayName("TC13 - Should display default sorting Name (A to Z)")
@@ -85,7 +93,7 @@ public class HomePageTest extends BaseTest {
                 assertTrue(homePage.hasDefaultSortOption()));
     }
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("tc14")
     @DisplayName("TC14 - Should display 6 items in inventory list")
@@ -103,7 +111,7 @@ public class HomePageTest extends BaseTest {
                 assertTrue(homePage.hasExpectedInventoryItemCount()));
     }
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("sorting")
     @Tag("tc15")
@@ -118,11 +126,13 @@ public class HomePageTest extends BaseTest {
         Allure.step("When selecting name ascending sorting (A-Z)", () ->
                 homePage.sortByNameAscending());
 
-        Allure.step("Then product names should be in ascending order", () ->
-                assertTrue(homePage.areProductNamesSortedAscending()));
+        Allure.step("Then product names should be in ascending order", () -> {
+            SortCheck sortCheck = homePage.checkProductNamesSorted(true);
+            assertTrue(sortCheck.isSorted(), sortCheck.describe());
+        });
     }
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("sorting")
     @Tag("tc16")
@@ -137,11 +147,13 @@ public class HomePageTest extends BaseTest {
         Allure.step("When selecting name descending sorting (Z-A)", () ->
                 homePage.sortByNameDescending());
 
-        Allure.step("Then product names should be in descending order", () ->
-                assertTrue(homePage.areProductNamesSortedDescending()));
+        Allure.step("Then product names should be in descending order", () -> {
+            SortCheck sortCheck = homePage.checkProductNamesSorted(false);
+            assertTrue(sortCheck.isSorted(), sortCheck.describe());
+        });
     }
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("sorting")
     @Tag("tc17")
@@ -156,11 +168,13 @@ public class HomePageTest extends BaseTest {
         Allure.step("When selecting price ascending sorting (low to high)", () ->
                 homePage.sortByPriceAscending());
 
-        Allure.step("Then prices should be in ascending order", () ->
-                assertTrue(homePage.arePricesSortedAscending()));
+        Allure.step("Then prices should be in ascending order", () -> {
+            SortCheck sortCheck = homePage.checkPricesSorted(true);
+            assertTrue(sortCheck.isSorted(), sortCheck.describe());
+        });
     }
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("sorting")
     @Tag("tc18")
@@ -175,11 +189,13 @@ public class HomePageTest extends BaseTest {
         Allure.step("When selecting price descending sorting (high to low)", () ->
                 homePage.sortByPriceDescending());
 
-        Allure.step("Then prices should be in descending order", () ->
-                assertTrue(homePage.arePricesSortedDescending()));
+        Allure.step("Then prices should be in descending order", () -> {
+            SortCheck sortCheck = homePage.checkPricesSorted(false);
+            assertTrue(sortCheck.isSorted(), sortCheck.describe());
+        });
     }
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("cart")
     @Tag("tc19")
@@ -202,7 +218,7 @@ public class HomePageTest extends BaseTest {
                         testData.testValueInt("HomePageTest", "TC19", "expectedCartBadge"))));
     }
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("cart")
     @Tag("tc20")
@@ -210,12 +226,13 @@ public class HomePageTest extends BaseTest {
     @Story("Cart")
     @Severity(SeverityLevel.NORMAL)
     @Description("Removes item from cart and validates zero badge.")
+    @StartFrom("inventory-with-backpack")
     void shouldRemoveBackpackFromCart() {
         Allure.step("Given the user is on the homepage", () ->
                 assertTrue(homePage.isLoaded()));
 
         Allure.step("And Backpack was already added", () ->
-                homePage.addBackpackToCart());
+                assertTrue(homePage.isBackpackAddedToCart()));
 
         Allure.step("When removing Backpack from cart", () ->
                 homePage.removeBackpackFromCart());
@@ -225,7 +242,7 @@ public class HomePageTest extends BaseTest {
                         testData.testValueInt("HomePageTest", "TC20", "expectedCartBadge"))));
     }
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("product-details")
     @Tag("tc21")
@@ -247,7 +264,7 @@ public class HomePageTest extends BaseTest {
         });
     }
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("product-details")
     @Tag("tc22")
@@ -271,7 +288,7 @@ public class HomePageTest extends BaseTest {
         });
     }
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("product-details")
     @Tag("tc23")
@@ -296,7 +313,7 @@ public class HomePageTest extends BaseTest {
         });
     }
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("product-details")
     @Tag("tc24")
@@ -321,7 +338,7 @@ public class HomePageTest extends BaseTest {
         });
     }
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("product-details")
     @Tag("tc25")
@@ -329,10 +346,10 @@ public class HomePageTest extends BaseTest {
     @Story("Product Details In Home")
     @Severity(SeverityLevel.NORMAL)
     @Description("Validates cart quantity remains unchanged after opening and closing details page.")
+    @StartFrom("inventory-with-backpack")
     void shouldMaintainCartStateWhenNavigatingDetailsInHome() {
         Allure.step("Given the user has Backpack in cart on homepage", () -> {
             assertTrue(homePage.isLoaded());
-            homePage.addBackpackToCart();
             assertTrue(homePage.isBackpackAddedToCart());
         });
 
@@ -349,7 +366,7 @@ public class HomePageTest extends BaseTest {
         });
     }
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("multi-user")
     @Tag("known-bug")
@@ -379,15 +396,10 @@ public class HomePageTest extends BaseTest {
         Allure.step("And problem_user anomalies should be detected", () ->
                 assertTrue(anomalyResult.hasProblemUserSpecificIssue()));
 
-        Allure.addAttachment(
-                "Known Defect Evidence",
-                "text/plain",
-                anomalyResult.toEvidenceText("problem_user"),
-                ".txt"
-        );
+        attachEvidence("Known Defect Evidence", anomalyResult.toEvidenceText("problem_user"));
     }
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("multi-user")
     @Tag("known-bug")
@@ -403,9 +415,13 @@ public class HomePageTest extends BaseTest {
         Allure.step("Given standard user is authenticated on homepage", () ->
                 assertTrue(homePage.isLoaded()));
 
+        // Installed only here: the observer and its sessionStorage entry would otherwise alter every page under test.
+        MainThreadMonitor mainThreadMonitor = MainThreadMonitor.install(context, page);
+
         Allure.step("When logging out and signing in with performance_glitch_user", () -> {
             homePage.logout();
             assertTrue(loginPage.isLoaded());
+            mainThreadMonitor.reset();
             loginDurationMs[0] = loginPage.loginWithPerformanceGlitchUserAndMeasureDurationMs();
         });
 
@@ -414,21 +430,18 @@ public class HomePageTest extends BaseTest {
             assertTrue(homePage.hasExpectedInventoryItemCount());
         });
 
+        // Covers login and inventory render: tells a slow server apart from a busy main thread.
         HomePage.PerformanceGlitchHomeAnomalyResult anomalyResult =
-                homePage.analyzePerformanceGlitchUserIssues(loginDurationMs[0]);
+                homePage.analyzePerformanceGlitchUserIssues(loginDurationMs[0], mainThreadMonitor.collect());
 
         Allure.step("And performance glitch delay should be detected", () ->
                 assertTrue(anomalyResult.hasPerformanceGlitchSpecificIssue()));
 
-        Allure.addAttachment(
-                "Known Defect Evidence",
-                "text/plain",
-                anomalyResult.toEvidenceText(),
-                ".txt"
-        );
+        attachEvidence("Known Defect Evidence", anomalyResult.toEvidenceText());
+        attachEvidence("Measurement Conditions", networkConditions.describe(browserEngine));
     }
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("multi-user")
     @Tag("known-bug")
@@ -460,15 +473,10 @@ public class HomePageTest extends BaseTest {
                 assertTrue(homePage.isBackpackReadyToAdd() || homePage.isBackpackAddedToCart()));
 
         Allure.step("And anomaly analysis should be attached", () ->
-                Allure.addAttachment(
-                        "Analysis Result",
-                        "text/plain",
-                        anomalyResult.toEvidenceText("error_user"),
-                        ".txt"
-                ));
+                attachEvidence("Analysis Result", anomalyResult.toEvidenceText("error_user")));
     }
 
-    @Test
+    @BrowserTest
     @Tag("home")
     @Tag("multi-user")
     @Tag("known-bug")
@@ -480,8 +488,12 @@ public class HomePageTest extends BaseTest {
     void shouldConfirmVisualUserHomeAnomalies() {
         Allure.label("knownIssue", testData.knownIssue("visualUserHome"));
 
-        Allure.step("Given standard user is authenticated on homepage", () ->
-                assertTrue(homePage.isLoaded()));
+        Allure.step("Given standard user is authenticated on homepage", () -> {
+            assertTrue(homePage.isLoaded());
+            // The committed standard layout is the reference (skipped when none is committed for this engine).
+            VisualCheck.Outcome standardOutcome = visualCheck.compare("inventory", homePage.visualMasks());
+            assertTrue(standardOutcome.skipped() || standardOutcome.matches(), standardOutcome.describe());
+        });
 
         Allure.step("When logging out and signing in with visual_user", () -> {
             homePage.logout();
@@ -499,11 +511,11 @@ public class HomePageTest extends BaseTest {
         Allure.step("And visual CSS anomaly should be detected", () ->
                 assertTrue(visualAnomalyResult.hasVisualUserSpecificIssue()));
 
-        Allure.addAttachment(
-                "Known Defect Evidence",
-                "text/plain",
-                visualAnomalyResult.toEvidenceText(),
-                ".txt"
-        );
+        VisualCheck.Outcome visualOutcome = visualCheck.compareToExisting("inventory", homePage.visualMasks());
+
+        Allure.step("And the layout shift should differ from the standard baseline", () ->
+                assertTrue(visualOutcome.skipped() || !visualOutcome.matches(), visualOutcome.describe()));
+
+        attachEvidence("Known Defect Evidence", visualAnomalyResult.toEvidenceText());
     }
 }
@@ -0,0 +1,138 @@
+package com.playwright.java.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.playwright.java.base.BaseTest;
+import com.playwright.java.base.BrowserTest;
+import com.playwright.java.base.HistoryAwareMethodOrderer;
+import com.playwright.java.config.TestConfig;
+import com.playwright.java.network.SauceDemoStandIn;
+import com.playwright.java.pages.SortCheck;
+import io.qameta.allure.Allure;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Owner;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+// Stress mode: HomePage operations measured against generated catalogs served by a local stand-in.
+// Enabled only when stressItemCounts is set (e.g. -DstressItemCounts=1000,10000,100000).
+// The scaling curve (engine, items, operation, ms) is written to target/reports/inventory-scaling.csv.
+@Epic("Web Automation")
+@Feature("Inventory Scaling")
+@Owner("Gabriel Souza")
+@Tag("stress")
+@EnabledIf("stressModeEnabled")
+@TestMethodOrder(HistoryAwareMethodOrderer.class)
+public class InventoryStressTest extends BaseTest {
+    private static final String CSV_HEADER = "engine,items,operation,ms";
+    private static final int STRESS_TIMEOUT_MS = 120_000;
+
+    private final StringBuilder scalingCurve = new StringBuilder(CSV_HEADER).append(System.lineSeparator());
+    private SauceDemoStandIn standIn;
+
+    static boolean stressModeEnabled() {
+        return !TestConfig.get().stressItemCounts().isEmpty();
+    }
+
+    @Override
+    protected boolean requiresAuthenticatedSession() {
+        return false;
+    }
+
+    @Override
+    protected boolean opensApplicationOnSetUp() {
+        return false;
+    }
+
+    @BeforeAll
+    void startStandIn() {
+        standIn = SauceDemoStandIn.start();
+    }
+
+    @AfterAll
+    void stopStandIn() {
+        if (standIn != null) {
+            standIn.close();
+        }
+
+        try {
+            Path reportsDir = Path.of("target", "reports");
+            Files.createDirectories(reportsDir);
+            Files.writeString(reportsDir.resolve("inventory-scaling.csv"), scalingCurve.toString(), StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            System.err.println("Failed to write inventory scaling curve: " + exception.getMessage());
+        }
+    }
+
+    @BrowserTest
+    @Tag("tc33")
+    @DisplayName("TC33 - Should keep HomePage operations working on large synthetic inventories")
+    @Story("Large Catalogs")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Serves generated inventories of each configured size and times loading, reading, sorting and image checks.")
+    void shouldMeasureHomePageOperationsOnLargeInventories() {
+        page.setDefaultTimeout(Math.max(config.defaultTimeoutMs(), STRESS_TIMEOUT_MS));
+        page.setDefaultNavigationTimeout(Math.max(config.navigationTimeoutMs(), STRESS_TIMEOUT_MS));
+        int firstRow = scalingCurve.length();
+
+        for (int items : config.stressItemCounts()) {
+            Allure.step("Inventory with " + items + " items", () -> {
+                measure(items, "load", () -> page.navigate(standIn.inventoryUrl(items)));
+                assertTrue(homePage.isLoaded());
+
+                assertEquals(items, (int) measure(items, "countItems", () -> homePage.getInventoryItemCount()));
+                List<String> names = measure(items, "getProductNames", () -> homePage.getProductNames());
+                assertEquals(items, names.size());
+
+                assertSorted(measure(items, "checkNamesAscending", () -> homePage.checkProductNamesSorted(true)));
+                measure(items, "sortNameDescending", () -> homePage.sortByNameDescending());
+                assertSorted(measure(items, "checkNamesDescending", () -> homePage.checkProductNamesSorted(false)));
+                measure(items, "sortPriceAscending", () -> homePage.sortByPriceAscending());
+                assertSorted(measure(items, "checkPricesAscending", () -> homePage.checkPricesSorted(true)));
+
+                assertFalse(measure(items, "imagePlaceholderCheck", () -> homePage.hasAnyInventoryImageUsingErrorPlaceholder()));
+            });
+        }
+
+        attachEvidence("Inventory scaling (" + browserEngine + ")", CSV_HEADER + System.lineSeparator() + scalingCurve.substring(firstRow));
+    }
+
+    private static void assertSorted(SortCheck sortCheck) {
+        assertTrue(sortCheck.isSorted(), sortCheck.describe());
+    }
+
+    private void measure(int items, String operation, Runnable action) {
+        measure(items, operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private <T> T measure(int items, String operation, Supplier<T> action) {
+        long start = System.nanoTime();
+        T result = action.get();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        scalingCurve.append(browserEngine).append(',')
+                .append(items).append(',')
+                .append(operation).append(',')
+                .append(elapsedMs).append(System.lineSeparator());
+        return result;
+    }
+}
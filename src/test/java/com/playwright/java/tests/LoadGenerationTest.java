@@ -0,0 +1,74 @@
+package com.playwright.java.tests;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.playwright.java.base.AllureResults;
+import com.playwright.java.config.TestConfig;
+import com.playwright.java.load.LoadGenerator;
+import com.playwright.java.network.SauceDemoStandIn;
+import io.qameta.allure.Allure;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Owner;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import io.qameta.allure.Story;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+// Load mode: weighted login/sort/cart/logout journeys run by many virtual users against a local stand-in.
+// Enabled only when loadUsers > 0 (e.g. -DloadUsers=20 -DloadBrowsers=4).
+// Throughput, error rate and latency percentiles per step are written to target/reports/load-report.txt.
+// Not a BaseTest: LoadGenerator launches its own browsers, so no suite login, context or screenshot is needed.
+@Epic("Web Automation")
+@Feature("Load Generation")
+@Owner("Gabriel Souza")
+@Tag("load")
+@EnabledIf("loadModeEnabled")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class LoadGenerationTest {
+    private TestConfig config;
+    private SauceDemoStandIn standIn;
+
+    static boolean loadModeEnabled() {
+        return TestConfig.get().loadUsers() > 0;
+    }
+
+    @BeforeAll
+    void startStandIn() {
+        config = TestConfig.get();
+        AllureResults.writeRunMetadataOnce(config);
+        standIn = SauceDemoStandIn.start();
+    }
+
+    @AfterAll
+    void stopStandIn() {
+        if (standIn != null) {
+            standIn.close();
+        }
+    }
+
+    @Test
+    @Tag("tc34")
+    @DisplayName("TC34 - Should sustain concurrent virtual users running weighted journeys")
+    @Story("Multi-User Load")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Ramps up the configured virtual users across several browsers and reports throughput, errors and latency percentiles per step, once per configured engine.")
+    void shouldSustainConcurrentVirtualUsers() {
+        for (String engine : config.browsers()) {
+            Allure.step("Load run on " + engine, () -> {
+                LoadGenerator generator = new LoadGenerator(config, standIn.baseUrl(), engine);
+                String report = generator.run();
+                AllureResults.attachText("Load report (" + engine + ")", report, config.gzipTextAttachmentsOverKb());
+
+                assertTrue(generator.stats().completedJourneys() > 0, "No journey completed on " + engine + ":\n" + report);
+            });
+        }
+    }
+}
@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.playwright.java.base.BaseTest;
+import com.playwright.java.base.BrowserTest;
+import com.playwright.java.base.HistoryAwareMethodOrderer;
+import com.playwright.java.base.JourneyPlan;
 import com.playwright.java.config.TestData;
 import io.qameta.allure.Allure;
 import io.qameta.allure.Description;
@@ -13,16 +16,15 @@ import io.qameta.allure.Owner;
 import io.qameta.allure.Severity;
 import io.qameta.allure.SeverityLevel;
 import io.qameta.allure.Story;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 @Epic("Web Automation")
 @Feature("Authentication")
 @Owner("Gabriel Souza")
-@TestMethodOrder(MethodOrderer.DisplayName.class)
+@TestMethodOrder(HistoryAwareMethodOrderer.class)
 public class LoginPageTest extends BaseTest {
 
     private final TestData testData = TestData.get();
@@ -32,7 +34,7 @@ public class LoginPageTest extends BaseTest {
         return false;
     }
 
-    @Test
+    @BrowserTest
     @Tag("login")
     @Tag("smoke")
     @Tag("tc01")
@@ -51,7 +53,7 @@ public class LoginPageTest extends BaseTest {
                 assertTrue(homePage.isLoaded()));
     }
 
-    @Test
+    @BrowserTest
     @Tag("login")
     @Tag("tc02")
     @DisplayName("TC02 - Should display logo and required login fields")
@@ -59,22 +61,18 @@ public class LoginPageTest extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     @Description("Validates that login screen displays logo, username and password inputs, and login button.")
     void shouldDisplayLogoAndLoginFormElements() {
-        Allure.step("Given the user opened the login page", () ->
-                assertTrue(loginPage.isLoaded()));
-
-        Allure.step("When validating logo, login button, and credentials panel", () -> {
-            assertTrue(loginPage.isLogoVisible());
-            assertTrue(loginPage.isUsernameInputVisible());
-            assertTrue(loginPage.isPasswordInputVisible());
-            assertTrue(loginPage.isLoginButtonVisible());
-            assertTrue(loginPage.isCredentialsPanelVisible());
-        });
-
-        Allure.step("Then the login screen structure should be visible", () ->
-                assertTrue(loginPage.isLoaded()));
+        // Both check steps only depend on the opened page, so they are resolved in one evaluation.
+        JourneyPlan.on(page)
+                .action("opened", "Given the user opened the login page", () ->
+                        assertTrue(loginPage.isLoaded()))
+                .checks("layout", "When validating logo, login button, and credentials panel",
+                        loginPage.layoutChecks(), "opened")
+                .checks("structure", "Then the login screen structure should be visible",
+                        List.of(loginPage.loadedCheck()), "opened")
+                .run();
     }
 
-    @Test
+    @BrowserTest
     @Tag("login")
     @Tag("tc03")
     @DisplayName("TC03 - Should display accepted users and default password")
@@ -92,7 +90,7 @@ public class LoginPageTest extends BaseTest {
                 assertTrue(loginPage.hasDefaultPasswordHint()));
     }
 
-    @Test
+    @BrowserTest
     @Tag("login")
     @Tag("negative")
     @Tag("tc04")
@@ -116,7 +114,7 @@ public class LoginPageTest extends BaseTest {
         });
     }
 
-    @Test
+    @BrowserTest
     @Tag("login")
     @Tag("negative")
     @Tag("tc05")
@@ -140,7 +138,7 @@ public class LoginPageTest extends BaseTest {
         });
     }
 
-    @Test
+    @BrowserTest
     @Tag("login")
     @Tag("negative")
     @Tag("tc06")
@@ -164,7 +162,7 @@ public class LoginPageTest extends BaseTest {
         });
     }
 
-    @Test
+    @BrowserTest
     @Tag("login")
     @Tag("tc07")
     @DisplayName("TC07 - Should log in with performance_glitch_user")
@@ -182,7 +180,7 @@ public class LoginPageTest extends BaseTest {
                 assertTrue(homePage.isLoaded()));
     }
 
-    @Test
+    @BrowserTest
     @Tag("login")
     @Tag("tc08")
     @DisplayName("TC08 - Should log in with problem_user")
@@ -200,7 +198,7 @@ public class LoginPageTest extends BaseTest {
                 assertTrue(homePage.isLoaded()));
     }
 
-    @Test
+    @BrowserTest
     @Tag("login")
     @Tag("tc09")
     @DisplayName("TC09 - Should log in with error_user")
@@ -218,7 +216,7 @@ public class LoginPageTest extends BaseTest {
                 assertTrue(homePage.isLoaded()));
     }
 
-    @Test
+    @BrowserTest
     @Tag("login")
     @Tag("tc10")
     @DisplayName("TC10 - Should log in with visual_user")
@@ -0,0 +1,80 @@
+package com.playwright.java.visual;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+
+// Screenshot decoded into one packed ARGB int per pixel (row-major), the layout PixelDiff works on.
+public final class ArgbImage {
+    private final int width;
+    private final int height;
+    private final int[] pixels;
+
+    public ArgbImage(int width, int height, int[] pixels) {
+        if (pixels.length != width * height) {
+            throw new IllegalStateException("Pixel buffer of " + pixels.length + " does not match " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.pixels = pixels;
+    }
+
+    public static ArgbImage decode(byte[] png) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            if (image == null) {
+                throw new IllegalStateException("Screenshot is not a readable image");
+            }
+            return fromImage(image);
+        } catch (IOException exception) {
+            throw new IllegalStateException("Failed to decode screenshot", exception);
+        }
+    }
+
+    public static ArgbImage read(Path file) {
+        try {
+            return decode(Files.readAllBytes(file));
+        } catch (IOException exception) {
+            throw new IllegalStateException("Failed to read image " + file, exception);
+        }
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    int[] pixels() {
+        return pixels;
+    }
+
+    public void writePng(Path file) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        int[] target = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        System.arraycopy(pixels, 0, target, 0, pixels.length);
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            ImageIO.write(image, "png", file.toFile());
+        } catch (IOException exception) {
+            throw new IllegalStateException("Failed to write image " + file, exception);
+        }
+    }
+
+    // Takes the backing int[] directly when the decoder already produced ARGB; otherwise converts once.
+    private static ArgbImage fromImage(BufferedImage image) {
+        BufferedImage argb = image;
+        if (image.getType() != BufferedImage.TYPE_INT_ARGB) {
+            argb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+            argb.getGraphics().drawImage(image, 0, 0, null);
+        }
+        int[] pixels = ((DataBufferInt) argb.getRaster().getDataBuffer()).getData();
+        return new ArgbImage(argb.getWidth(), argb.getHeight(), pixels);
+    }
+}
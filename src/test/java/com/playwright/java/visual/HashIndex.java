@@ -0,0 +1,175 @@
+package com.playwright.java.visual;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Compact on-disk index of perceptual hashes: state key -> hashes, image size and capture file.
+// Binary append-only log (about 60 bytes per record plus the key), loaded into a HashMap once per JVM,
+// so looking up a baseline among thousands of states never touches the images themselves.
+// The last record for a key wins; the log is compacted on load when superseded records dominate
+// or when it ends with a torn record.
+public final class HashIndex {
+    private static final int FORMAT_VERSION = 1;
+    private static final Map<Path, HashIndex> INSTANCES = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private HashIndex(Path file) {
+        this.file = file;
+        load();
+    }
+
+    // One index per file per JVM, shared by every test class and worker thread.
+    public static HashIndex open(Path file) {
+        return INSTANCES.computeIfAbsent(file.toAbsolutePath().normalize(), HashIndex::new);
+    }
+
+    public static final class Entry {
+        private final PerceptualHash hash;
+        private final int width;
+        private final int height;
+        private final String capture;
+        private final long captureModifiedMs;
+
+        private Entry(PerceptualHash hash, int width, int height, String capture, long captureModifiedMs) {
+            this.hash = hash;
+            this.width = width;
+            this.height = height;
+            this.capture = capture;
+            this.captureModifiedMs = captureModifiedMs;
+        }
+
+        public PerceptualHash hash() {
+            return hash;
+        }
+
+        public Path capture() {
+            return Path.of(capture);
+        }
+
+        public boolean hasSize(int expectedWidth, int expectedHeight) {
+            return width == expectedWidth && height == expectedHeight;
+        }
+
+        // False when the capture was replaced or deleted since it was hashed (e.g. baseline updated through git).
+        public boolean isCurrent() {
+            try {
+                Path path = capture();
+                return Files.isRegularFile(path) && Files.getLastModifiedTime(path).toMillis() == captureModifiedMs;
+            } catch (IOException exception) {
+                return false;
+            }
+        }
+    }
+
+    public synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // Records the hash of an image already written to capture.
+    public synchronized Entry put(String key, PerceptualHash hash, int width, int height, Path capture) {
+        long modifiedMs;
+        try {
+            modifiedMs = Files.getLastModifiedTime(capture).toMillis();
+        } catch (IOException exception) {
+            modifiedMs = -1L;
+        }
+        Entry entry = new Entry(hash, width, height, capture.toString(), modifiedMs);
+        entries.put(key, entry);
+
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            boolean created = !Files.exists(file);
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)))) {
+                if (created) {
+                    output.writeInt(FORMAT_VERSION);
+                }
+                writeRecord(output, key, entry);
+            }
+        } catch (IOException exception) {
+            System.err.println("Failed to append to hash index " + file + ": " + exception.getMessage());
+        }
+        return entry;
+    }
+
+    private void load() {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+
+        int records = 0;
+        boolean rewrite = false;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != FORMAT_VERSION) {
+                System.err.println("Ignoring hash index with unknown format: " + file);
+                rewrite = true;
+            }
+            while (!rewrite) {
+                String key;
+                try {
+                    key = input.readUTF();
+                } catch (EOFException endOfFile) {
+                    break;
+                }
+                String capture = input.readUTF();
+                long modifiedMs = input.readLong();
+                PerceptualHash hash = new PerceptualHash(input.readLong(), input.readLong());
+                int width = input.readInt();
+                int height = input.readInt();
+                entries.put(key, new Entry(hash, width, height, capture, modifiedMs));
+                records++;
+            }
+        } catch (IOException exception) {
+            // A torn last record (interrupted run) only loses that record.
+            System.err.println("Hash index " + file + " ends with an unreadable record: " + exception.getMessage());
+            rewrite = true;
+        }
+
+        // Rewriting truncates an unreadable tail, which would otherwise hide every record appended after it.
+        if (rewrite || records > 2 * entries.size()) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        try {
+            Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), "hash-index", ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                output.writeInt(FORMAT_VERSION);
+                for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                    writeRecord(output, entry.getKey(), entry.getValue());
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            System.err.println("Failed to compact hash index " + file + ": " + exception.getMessage());
+        }
+    }
+
+    private static void writeRecord(DataOutputStream output, String key, Entry entry) throws IOException {
+        output.writeUTF(key);
+        output.writeUTF(entry.capture);
+        output.writeLong(entry.captureModifiedMs);
+        output.writeLong(entry.hash.dHash());
+        output.writeLong(entry.hash.pHash());
+        output.writeInt(entry.width);
+        output.writeInt(entry.height);
+    }
+}
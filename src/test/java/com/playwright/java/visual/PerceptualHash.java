@@ -0,0 +1,136 @@
+package com.playwright.java.visual;
+
+import java.util.Arrays;
+
+// 64-bit difference hash (dHash) and DCT hash (pHash) of a screenshot.
+// Both work on a small grayscale thumbnail built with one pass of box averaging over the ARGB buffer,
+// so hashing costs a few milliseconds even for full-page captures.
+// The Hamming distance between two hashes is a cheap estimate of how different two captures look.
+public final class PerceptualHash {
+    private static final int DHASH_WIDTH = 9;
+    private static final int DHASH_HEIGHT = 8;
+    private static final int PHASH_SIZE = 32;
+    private static final int PHASH_LOW_FREQUENCIES = 8;
+    private static final double[][] DCT_COEFFICIENTS = dctCoefficients();
+
+    private final long dHash;
+    private final long pHash;
+
+    public PerceptualHash(long dHash, long pHash) {
+        this.dHash = dHash;
+        this.pHash = pHash;
+    }
+
+    public static PerceptualHash of(ArgbImage image) {
+        return new PerceptualHash(dHash(image), pHash(image));
+    }
+
+    public long dHash() {
+        return dHash;
+    }
+
+    public long pHash() {
+        return pHash;
+    }
+
+    // Largest of the two distances (0-64): a change has to fool both hashes to go unnoticed.
+    public int distance(PerceptualHash other) {
+        return Math.max(Long.bitCount(dHash ^ other.dHash), Long.bitCount(pHash ^ other.pHash));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("dHash=%016x, pHash=%016x", dHash, pHash);
+    }
+
+    // Each bit tells whether a thumbnail cell is brighter than its right neighbour.
+    static long dHash(ArgbImage image) {
+        double[] thumbnail = grayscaleThumbnail(image, DHASH_WIDTH, DHASH_HEIGHT);
+        long hash = 0;
+        for (int y = 0; y < DHASH_HEIGHT; y++) {
+            for (int x = 0; x < DHASH_WIDTH - 1; x++) {
+                int cell = y * DHASH_WIDTH + x;
+                hash = (hash << 1) | (thumbnail[cell] > thumbnail[cell + 1] ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    // Each bit tells whether a low-frequency DCT coefficient is above the median (DC term excluded from the median).
+    static long pHash(ArgbImage image) {
+        double[] thumbnail = grayscaleThumbnail(image, PHASH_SIZE, PHASH_SIZE);
+
+        // Separable 2D DCT-II, keeping only the low-frequency block.
+        double[] rows = new double[PHASH_LOW_FREQUENCIES * PHASH_SIZE];
+        for (int u = 0; u < PHASH_LOW_FREQUENCIES; u++) {
+            for (int y = 0; y < PHASH_SIZE; y++) {
+                double sum = 0;
+                for (int x = 0; x < PHASH_SIZE; x++) {
+                    sum += DCT_COEFFICIENTS[u][x] * thumbnail[y * PHASH_SIZE + x];
+                }
+                rows[u * PHASH_SIZE + y] = sum;
+            }
+        }
+        double[] coefficients = new double[PHASH_LOW_FREQUENCIES * PHASH_LOW_FREQUENCIES];
+        for (int v = 0; v < PHASH_LOW_FREQUENCIES; v++) {
+            for (int u = 0; u < PHASH_LOW_FREQUENCIES; u++) {
+                double sum = 0;
+                for (int y = 0; y < PHASH_SIZE; y++) {
+                    sum += DCT_COEFFICIENTS[v][y] * rows[u * PHASH_SIZE + y];
+                }
+                coefficients[v * PHASH_LOW_FREQUENCIES + u] = sum;
+            }
+        }
+
+        double[] acTerms = Arrays.copyOfRange(coefficients, 1, coefficients.length);
+        Arrays.sort(acTerms);
+        double median = (acTerms[acTerms.length / 2 - 1] + acTerms[acTerms.length / 2]) / 2;
+
+        long hash = 0;
+        for (double coefficient : coefficients) {
+            hash = (hash << 1) | (coefficient > median ? 1 : 0);
+        }
+        return hash;
+    }
+
+    // Average luminance per cell, computed in one pass over the pixels with precomputed cell indexes.
+    static double[] grayscaleThumbnail(ArgbImage image, int width, int height) {
+        int imageWidth = image.width();
+        int imageHeight = image.height();
+        int[] cellColumn = new int[imageWidth];
+        for (int x = 0; x < imageWidth; x++) {
+            cellColumn[x] = (int) ((long) x * width / imageWidth);
+        }
+
+        long[] sums = new long[width * height];
+        long[] counts = new long[width * height];
+        int[] pixels = image.pixels();
+        for (int y = 0; y < imageHeight; y++) {
+            int rowCell = (int) ((long) y * height / imageHeight) * width;
+            int rowStart = y * imageWidth;
+            for (int x = 0; x < imageWidth; x++) {
+                int argb = pixels[rowStart + x];
+                int luminance = (((argb >>> 16) & 0xFF) * 77 + ((argb >>> 8) & 0xFF) * 150 + (argb & 0xFF) * 29) >>> 8;
+                int cell = rowCell + cellColumn[x];
+                sums[cell] += luminance;
+                counts[cell]++;
+            }
+        }
+
+        double[] thumbnail = new double[width * height];
+        for (int cell = 0; cell < thumbnail.length; cell++) {
+            thumbnail[cell] = counts[cell] == 0 ? 0 : (double) sums[cell] / counts[cell];
+        }
+        return thumbnail;
+    }
+
+    private static double[][] dctCoefficients() {
+        double[][] coefficients = new double[PHASH_LOW_FREQUENCIES][PHASH_SIZE];
+        for (int u = 0; u < PHASH_LOW_FREQUENCIES; u++) {
+            for (int x = 0; x < PHASH_SIZE; x++) {
+                coefficients[u][x] = Math.cos((2 * x + 1) * u * Math.PI / (2 * PHASH_SIZE));
+            }
+        }
+        return coefficients;
+    }
+}
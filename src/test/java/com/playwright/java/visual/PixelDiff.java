@@ -0,0 +1,263 @@
+package com.playwright.java.visual;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Pixel comparison over raw ARGB buffers.
+// The image is cut into square tiles compared in parallel on the common ForkJoin pool.
+// Inside a tile, identical row segments are skipped with Arrays.mismatch (vectorized by the JDK),
+// so only differing pixels pay for the per-channel tolerance and mask tests.
+// The counting pass stops early (row granularity) once the mismatch limit is exceeded; the diff image is only
+// rendered (in a second parallel pass) when the caller asks for it.
+public final class PixelDiff {
+    static final int TILE_SIZE = 256;
+
+    private static final int MISMATCH_COLOR = 0xFFFF0000;
+    private static final int MASK_COLOR = 0xFFB0C4DE;
+
+    private PixelDiff() {
+    }
+
+    // Rectangle ignored by the comparison, in screenshot pixels.
+    public static final class Region {
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+
+        public Region(int x, int y, int width, int height) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        private boolean contains(int pixelX, int pixelY) {
+            return pixelX >= x && pixelX < x + width && pixelY >= y && pixelY < y + height;
+        }
+    }
+
+    public static final class Result {
+        private final int width;
+        private final int height;
+        private final long mismatchedPixels;
+        private final boolean limitExceeded;
+        private final boolean sizeMismatch;
+        private final long elapsedNanos;
+
+        private Result(int width, int height, long mismatchedPixels, boolean limitExceeded, boolean sizeMismatch, long elapsedNanos) {
+            this.width = width;
+            this.height = height;
+            this.mismatchedPixels = mismatchedPixels;
+            this.limitExceeded = limitExceeded;
+            this.sizeMismatch = sizeMismatch;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        // At least this many pixels differ; exact unless the limit was exceeded.
+        public long mismatchedPixels() {
+            return mismatchedPixels;
+        }
+
+        public boolean limitExceeded() {
+            return limitExceeded;
+        }
+
+        public boolean sizeMismatch() {
+            return sizeMismatch;
+        }
+
+        public double mismatchPercent() {
+            return sizeMismatch ? 100.0 : mismatchedPixels * 100.0 / ((long) width * height);
+        }
+
+        public long elapsedMs() {
+            return elapsedNanos / 1_000_000;
+        }
+
+        public String describe() {
+            if (sizeMismatch) {
+                return "size mismatch (baseline and actual have different dimensions)";
+            }
+            return String.format("%s%d of %d pixels differ (%s%.3f%%) in %d ms",
+                    limitExceeded ? ">" : "", mismatchedPixels, (long) width * height,
+                    limitExceeded ? ">" : "", mismatchPercent(), elapsedMs());
+        }
+    }
+
+    // Counts pixels whose channels differ by more than tolerance (0-255), ignoring masked regions.
+    // Stops early once more than maxMismatchedPixels differ (use Long.MAX_VALUE for an exact count).
+    public static Result compare(ArgbImage baseline, ArgbImage actual, List<Region> masks, int tolerance, long maxMismatchedPixels) {
+        long start = System.nanoTime();
+        if (baseline.width() != actual.width() || baseline.height() != actual.height()) {
+            return new Result(actual.width(), actual.height(), (long) actual.width() * actual.height(), true, true, System.nanoTime() - start);
+        }
+
+        AtomicLong mismatches = new AtomicLong();
+        TileTask task = new TileTask(baseline, actual, masks, tolerance, maxMismatchedPixels, mismatches, null, 0, tileCount(baseline));
+        long counted = ForkJoinPool.commonPool().invoke(task);
+        return new Result(baseline.width(), baseline.height(), counted, counted > maxMismatchedPixels, false, System.nanoTime() - start);
+    }
+
+    // Diff image: mismatches in red, masked regions in light blue, everything else a faded baseline.
+    public static ArgbImage render(ArgbImage baseline, ArgbImage actual, List<Region> masks, int tolerance) {
+        if (baseline.width() != actual.width() || baseline.height() != actual.height()) {
+            throw new IllegalStateException("Cannot render a diff of images with different sizes");
+        }
+
+        int[] diff = new int[baseline.pixels().length];
+        TileTask task = new TileTask(baseline, actual, masks, tolerance, Long.MAX_VALUE, new AtomicLong(), diff, 0, tileCount(baseline));
+        ForkJoinPool.commonPool().invoke(task);
+        return new ArgbImage(baseline.width(), baseline.height(), diff);
+    }
+
+    private static int tileCount(ArgbImage image) {
+        return tilesPerRow(image) * ceilDiv(image.height(), TILE_SIZE);
+    }
+
+    private static int tilesPerRow(ArgbImage image) {
+        return ceilDiv(image.width(), TILE_SIZE);
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
+    static boolean differs(int expected, int actual, int tolerance) {
+        if (expected == actual) {
+            return false;
+        }
+        for (int shift = 0; shift < 32; shift += 8) {
+            int delta = ((expected >>> shift) & 0xFF) - ((actual >>> shift) & 0xFF);
+            if (delta > tolerance || -delta > tolerance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isMasked(List<Region> masks, int x, int y) {
+        for (Region mask : masks) {
+            if (mask.contains(x, y)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int faded(int argb) {
+        int gray = (((argb >>> 16) & 0xFF) * 77 + ((argb >>> 8) & 0xFF) * 150 + (argb & 0xFF) * 29) >>> 8;
+        int light = 255 - (255 - gray) / 4;
+        return 0xFF000000 | (light << 16) | (light << 8) | light;
+    }
+
+    // Splits the tile range in halves until one tile remains; each tile is compared row by row.
+    // ForkJoinTask is Serializable, but tasks never leave the pool, so the shared buffers are transient.
+    private static final class TileTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient ArgbImage baseline;
+        private final transient ArgbImage actual;
+        private final transient List<Region> masks;
+        private final int tolerance;
+        private final long limit;
+        private final transient AtomicLong mismatches;
+        private final transient int[] diff;
+        private final int fromTile;
+        private final int toTile;
+
+        private TileTask(ArgbImage baseline, ArgbImage actual, List<Region> masks, int tolerance, long limit,
+                AtomicLong mismatches, int[] diff, int fromTile, int toTile) {
+            this.baseline = baseline;
+            this.actual = actual;
+            this.masks = masks;
+            this.tolerance = tolerance;
+            this.limit = limit;
+            this.mismatches = mismatches;
+            this.diff = diff;
+            this.fromTile = fromTile;
+            this.toTile = toTile;
+        }
+
+        @Override
+        protected Long compute() {
+            if (toTile - fromTile > 1) {
+                int middle = (fromTile + toTile) >>> 1;
+                TileTask left = new TileTask(baseline, actual, masks, tolerance, limit, mismatches, diff, fromTile, middle);
+                TileTask right = new TileTask(baseline, actual, masks, tolerance, limit, mismatches, diff, middle, toTile);
+                left.fork();
+                long rightCount = right.compute();
+                return left.join() + rightCount;
+            }
+            return diff == null ? countTile(fromTile) : renderTile(fromTile);
+        }
+
+        private long countTile(int tile) {
+            int width = baseline.width();
+            int x0 = (tile % tilesPerRow(baseline)) * TILE_SIZE;
+            int y0 = (tile / tilesPerRow(baseline)) * TILE_SIZE;
+            int x1 = Math.min(x0 + TILE_SIZE, width);
+            int y1 = Math.min(y0 + TILE_SIZE, baseline.height());
+            int[] expected = baseline.pixels();
+            int[] observed = actual.pixels();
+
+            long count = 0;
+            for (int y = y0; y < y1; y++) {
+                if (mismatches.get() > limit) {
+                    // This or another tile already decided the verdict.
+                    return count;
+                }
+                int rowStart = y * width;
+                int from = rowStart + x0;
+                int to = rowStart + x1;
+                int rowCount = 0;
+                while (from < to) {
+                    int offset = Arrays.mismatch(expected, from, to, observed, from, to);
+                    if (offset < 0) {
+                        break;
+                    }
+                    int index = from + offset;
+                    if (differs(expected[index], observed[index], tolerance) && !isMasked(masks, index - rowStart, y)) {
+                        rowCount++;
+                    }
+                    from = index + 1;
+                }
+                if (rowCount > 0) {
+                    // Published once per row to keep the shared counter uncontended.
+                    count += rowCount;
+                    mismatches.addAndGet(rowCount);
+                }
+            }
+            return count;
+        }
+
+        private long renderTile(int tile) {
+            int width = baseline.width();
+            int x0 = (tile % tilesPerRow(baseline)) * TILE_SIZE;
+            int y0 = (tile / tilesPerRow(baseline)) * TILE_SIZE;
+            int x1 = Math.min(x0 + TILE_SIZE, width);
+            int y1 = Math.min(y0 + TILE_SIZE, baseline.height());
+            int[] expected = baseline.pixels();
+            int[] observed = actual.pixels();
+
+            long count = 0;
+            for (int y = y0; y < y1; y++) {
+                for (int x = x0; x < x1; x++) {
+                    int index = y * width + x;
+                    if (isMasked(masks, x, y)) {
+                        diff[index] = MASK_COLOR;
+                    } else if (differs(expected[index], observed[index], tolerance)) {
+                        diff[index] = MISMATCH_COLOR;
+                        count++;
+                    } else {
+                        diff[index] = faded(expected[index]);
+                    }
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.playwright.java.visual;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.ScreenshotAnimations;
+import com.microsoft.playwright.options.ScreenshotCaret;
+import com.playwright.java.base.AllureResults;
+import com.playwright.java.config.TestConfig;
+import com.playwright.java.jfr.ScreenshotEvent;
+import io.qameta.allure.Allure;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// Compares the current viewport with a stored baseline for a named page state.
+// Baselines live in visualBaselineDir/<engine>/<state>-<width>x<height>.png and are committed.
+// Without a baseline for the engine and viewport the comparison is skipped (see Outcome.skipped()) and a note
+// is attached; baselines are only (re)recorded with visualUpdateBaselines=true, never silently on first run.
+// The pixel diff runs on every comparison unless visualHashThreshold is 0-64: then baseline hashes are kept
+// in target/visual-hash-index/baselines.bin and the pixel diff (and the baseline decode) only runs when
+// the perceptual hash distance exceeds it, which can miss small localized changes.
+// Dynamic elements are masked by locator: Playwright paints them with a solid box in both screenshots.
+// Mismatch percentage is attached to Allure; on failure the baseline, actual and diff images are too.
+public final class VisualCheck {
+    private static final Path OUTPUT_DIR = Path.of("target", "reports", "visual");
+    private static final Path HASH_INDEX_DIR = Path.of("target", "visual-hash-index");
+    private static final Path BASELINE_HASH_INDEX = HASH_INDEX_DIR.resolve("baselines.bin");
+    // Teardown screenshots are deleted at the start of every Maven run, so drift keeps its own copy.
+    private static final Path DRIFT_HASH_INDEX = HASH_INDEX_DIR.resolve("teardown.bin");
+    private static final Path DRIFT_CAPTURES_DIR = HASH_INDEX_DIR.resolve("teardown");
+
+    // Run-wide diff cost, published to the phase timings report.
+    private static long comparisons;
+    private static long totalDiffMs;
+    private static long maxDiffMs;
+    private static long hashedCaptures;
+    private static long hashNanos;
+    private static long diffsSkipped;
+
+    private final Page page;
+    private final TestConfig config;
+    private final String engine;
+
+    public VisualCheck(Page page, TestConfig config, String engine) {
+        this.page = page;
+        this.config = config;
+        this.engine = engine;
+    }
+
+    public static final class Outcome {
+        private final String state;
+        private final boolean baselineRecorded;
+        private final boolean matches;
+        private final PixelDiff.Result diff;
+        private final int hashDistance;
+        private final Path missingBaseline;
+
+        private Outcome(String state, boolean baselineRecorded, boolean matches, PixelDiff.Result diff, int hashDistance) {
+            this(state, baselineRecorded, matches, diff, hashDistance, null);
+        }
+
+        private Outcome(String state, boolean baselineRecorded, boolean matches, PixelDiff.Result diff, int hashDistance,
+                Path missingBaseline) {
+            this.state = state;
+            this.baselineRecorded = baselineRecorded;
+            this.matches = matches;
+            this.diff = diff;
+            this.hashDistance = hashDistance;
+            this.missingBaseline = missingBaseline;
+        }
+
+        private static Outcome skipped(String state, Path missingBaseline) {
+            return new Outcome(state, false, false, null, -1, missingBaseline);
+        }
+
+        public boolean matches() {
+            return matches;
+        }
+
+        // No baseline is committed for this engine and viewport, so nothing was compared.
+        public boolean skipped() {
+            return missingBaseline != null;
+        }
+
+        public boolean baselineRecorded() {
+            return baselineRecorded;
+        }
+
+        public double mismatchPercent() {
+            return diff == null ? 0.0 : diff.mismatchPercent();
+        }
+
+        public String describe() {
+            if (baselineRecorded) {
+                return "Visual state '" + state + "': baseline recorded";
+            }
+            if (missingBaseline != null) {
+                return "Visual state '" + state + "': skipped, no baseline at " + missingBaseline
+                        + " (record it with -DvisualUpdateBaselines=true and commit it)";
+            }
+            if (diff == null) {
+                return "Visual state '" + state + "': matches baseline (hash distance " + hashDistance + ", pixel diff skipped)";
+            }
+            return "Visual state '" + state + "': " + (matches ? "matches" : "differs from") + " baseline, "
+                    + diff.describe() + (hashDistance < 0 ? "" : " (hash distance " + hashDistance + ")");
+        }
+    }
+
+    public Outcome compare(String state, List<Locator> masks) {
+        return compare(state, masks, List.of());
+    }
+
+    public Outcome compare(String state, List<Locator> masks, List<PixelDiff.Region> ignoredRegions) {
+        return compare(state, masks, ignoredRegions, true);
+    }
+
+    // For pages expected to differ from another page's baseline: never records or updates it,
+    // even with visualUpdateBaselines=true.
+    public Outcome compareToExisting(String state, List<Locator> masks) {
+        return compare(state, masks, List.of(), false);
+    }
+
+    private Outcome compare(String state, List<Locator> masks, List<PixelDiff.Region> ignoredRegions, boolean mayRecord) {
+        ScreenshotEvent screenshotEvent = new ScreenshotEvent();
+        screenshotEvent.begin();
+        byte[] png = page.screenshot(new Page.ScreenshotOptions()
+                .setAnimations(ScreenshotAnimations.DISABLED)
+                .setCaret(ScreenshotCaret.HIDE)
+                .setMask(masks));
+        screenshotEvent.purpose = "visual:" + state;
+        screenshotEvent.bytes = png.length;
+        screenshotEvent.commit();
+        ArgbImage actual = ArgbImage.decode(png);
+
+        Path baselineFile = Path.of(config.visualBaselineDir(), engine,
+                state + "-" + actual.width() + "x" + actual.height() + ".png");
+        boolean recording = mayRecord && config.visualUpdateBaselines();
+        boolean preFilter = config.visualHashThreshold() >= 0;
+        if (!recording && !Files.isRegularFile(baselineFile)) {
+            Outcome skipped = Outcome.skipped(state, baselineFile);
+            Allure.addAttachment("Visual " + state, "text/plain", skipped.describe(), ".txt");
+            return skipped;
+        }
+        if (recording) {
+            actual.writePng(baselineFile);
+            if (preFilter) {
+                baselineIndex().put(indexKey(baselineFile), PerceptualHash.of(actual), actual.width(), actual.height(), baselineFile);
+            }
+            Outcome recorded = new Outcome(state, true, true, null, 0);
+            Allure.addAttachment("Visual " + state, "text/plain", recorded.describe() + " at " + baselineFile, ".txt");
+            return recorded;
+        }
+
+        ArgbImage baseline = null;
+        int hashDistance = -1;
+        if (preFilter) {
+            // Pre-filter: a hash distance within visualHashThreshold means the pixel diff is skipped.
+            long hashStart = System.nanoTime();
+            PerceptualHash actualHash = PerceptualHash.of(actual);
+            String indexKey = indexKey(baselineFile);
+            HashIndex.Entry baselineEntry = baselineIndex().get(indexKey);
+            if (baselineEntry == null || !baselineEntry.isCurrent() || !baselineEntry.hasSize(actual.width(), actual.height())) {
+                baseline = ArgbImage.read(baselineFile);
+                baselineEntry = baselineIndex().put(indexKey, PerceptualHash.of(baseline), baseline.width(), baseline.height(), baselineFile);
+            }
+            hashDistance = actualHash.distance(baselineEntry.hash());
+            recordHash(System.nanoTime() - hashStart, hashDistance <= config.visualHashThreshold());
+            if (hashDistance <= config.visualHashThreshold()) {
+                Outcome skipped = new Outcome(state, false, true, null, hashDistance);
+                Allure.addAttachment("Visual " + state, "text/plain", skipped.describe(), ".txt");
+                return skipped;
+            }
+        }
+
+        if (baseline == null) {
+            baseline = ArgbImage.read(baselineFile);
+        }
+        long maxMismatchedPixels = (long) actual.width() * actual.height() * config.visualMaxMismatchPermille() / 1000;
+        // The verdict pass exits early once the limit is exceeded; only failures pay for an exact count.
+        PixelDiff.Result diff = PixelDiff.compare(baseline, actual, ignoredRegions, config.visualPixelTolerance(), maxMismatchedPixels);
+        record(diff.elapsedMs());
+
+        boolean matches = !diff.limitExceeded();
+        if (!matches && !diff.sizeMismatch()) {
+            diff = PixelDiff.compare(baseline, actual, ignoredRegions, config.visualPixelTolerance(), Long.MAX_VALUE);
+        }
+        Outcome outcome = new Outcome(state, false, matches, diff, hashDistance);
+        Allure.addAttachment("Visual " + state, "text/plain", outcome.describe(), ".txt");
+        if (!matches) {
+            attachImages(state, baselineFile, baseline, actual, ignoredRegions, diff);
+        }
+        return outcome;
+    }
+
+    // Teardown captures (screenshotDrift=true) are hashed and compared with the previous capture of the same test,
+    // kept with the index under target/visual-hash-index so it survives runs; only a hash distance above
+    // visualHashThreshold triggers a pixel diff. Returns a one-line verdict.
+    public static String compareWithPreviousCapture(TestConfig config, String key, byte[] png) {
+        long hashStart = System.nanoTime();
+        ArgbImage actual = ArgbImage.decode(png);
+        PerceptualHash hash = PerceptualHash.of(actual);
+        HashIndex index = HashIndex.open(DRIFT_HASH_INDEX);
+        HashIndex.Entry previous = index.get(key);
+        recordHash(System.nanoTime() - hashStart, false);
+        String verdict = driftVerdict(config, key, actual, hash, previous);
+
+        Path copy = DRIFT_CAPTURES_DIR.resolve(key.replaceAll("[^A-Za-z0-9._-]", "_") + ".png");
+        try {
+            Files.createDirectories(DRIFT_CAPTURES_DIR);
+            Files.write(copy, png);
+            index.put(key, hash, actual.width(), actual.height(), copy);
+        } catch (IOException exception) {
+            System.err.println("Failed to keep teardown capture for drift comparison " + copy + ": " + exception.getMessage());
+        }
+        return verdict;
+    }
+
+    private static String driftVerdict(TestConfig config, String key, ArgbImage actual, PerceptualHash hash,
+            HashIndex.Entry previous) {
+        if (previous == null) {
+            return "First capture of " + key + " (" + hash + ")";
+        }
+        int distance = hash.distance(previous.hash());
+        if (distance <= config.visualHashThreshold()) {
+            recordSkippedDiff();
+            return "Unchanged since previous capture (hash distance " + distance + ", pixel diff skipped)";
+        }
+        if (!Files.isRegularFile(previous.capture())) {
+            return "Changed since previous capture (hash distance " + distance + "); previous image no longer on disk";
+        }
+
+        PixelDiff.Result diff = PixelDiff.compare(ArgbImage.read(previous.capture()), actual, List.of(),
+                config.visualPixelTolerance(), Long.MAX_VALUE);
+        record(diff.elapsedMs());
+        return "Changed since previous capture (hash distance " + distance + "): " + diff.describe();
+    }
+
+    public static synchronized String timingSummary() {
+        return String.format("visual diff: comparisons=%d, total=%d ms, avg=%d ms, max=%d ms;"
+                        + " hash pre-filter: captures=%d, hashTime=%d ms, pixelDiffsSkipped=%d",
+                comparisons, totalDiffMs, comparisons == 0 ? 0 : totalDiffMs / comparisons, maxDiffMs,
+                hashedCaptures, hashNanos / 1_000_000, diffsSkipped);
+    }
+
+    private static HashIndex baselineIndex() {
+        return HashIndex.open(BASELINE_HASH_INDEX);
+    }
+
+    // Keyed by the full baseline path, so several baseline directories can share the index.
+    private static String indexKey(Path baselineFile) {
+        return baselineFile.toAbsolutePath().normalize().toString();
+    }
+
+    private void attachImages(String state, Path baselineFile, ArgbImage baseline, ArgbImage actual,
+            List<PixelDiff.Region> ignoredRegions, PixelDiff.Result diff) {
+        String prefix = engine + "-" + state + "-" + System.nanoTime();
+        Path actualFile = OUTPUT_DIR.resolve(prefix + "-actual.png");
+        actual.writePng(actualFile);
+        AllureResults.attachFile("Visual " + state + " baseline", "image/png", baselineFile, ".png");
+        AllureResults.attachFile("Visual " + state + " actual", "image/png", actualFile, ".png");
+
+        if (!diff.sizeMismatch()) {
+            Path diffFile = OUTPUT_DIR.resolve(prefix + "-diff.png");
+            PixelDiff.render(baseline, actual, ignoredRegions, config.visualPixelTolerance()).writePng(diffFile);
+            AllureResults.attachFile("Visual " + state + " diff", "image/png", diffFile, ".png");
+        }
+    }
+
+    private static synchronized void recordHash(long elapsedNanos, boolean diffSkipped) {
+        hashedCaptures++;
+        hashNanos += elapsedNanos;
+        if (diffSkipped) {
+            diffsSkipped++;
+        }
+    }
+
+    private static synchronized void recordSkippedDiff() {
+        diffsSkipped++;
+    }
+
+    private static synchronized void record(long elapsedMs) {
+        comparisons++;
+        totalDiffMs += elapsedMs;
+        maxDiffMs = Math.max(maxDiffMs, elapsedMs);
+    }
+}